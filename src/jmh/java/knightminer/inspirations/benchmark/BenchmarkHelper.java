@@ -0,0 +1,184 @@
+package knightminer.inspirations.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import knightminer.inspirations.Inspirations;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
+import knightminer.inspirations.recipes.InspirationsRecipes;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.util.JSONUtils;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.util.registry.Registry;
+import net.minecraftforge.common.crafting.CraftingHelper;
+import net.minecraftforge.common.crafting.conditions.IConditionSerializer;
+import net.minecraftforge.common.crafting.conditions.TrueCondition;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Shared setup for benchmarks, which run without a Minecraft instance or mod loader.
+ * Vanilla registries and the Inspirations recipe serializers are available, but tags are not bound
+ */
+public class BenchmarkHelper {
+  private static final Logger LOG = LogManager.getLogger("inspirations-benchmark");
+  private static final Gson GSON = new Gson();
+  /** System property containing the default datapack root, set by the Gradle tasks */
+  private static final String DATAPACK_PROPERTY = "inspirations.benchmark.datapack";
+  /** Config condition, which cannot be tested as configs are not loaded */
+  private static final ResourceLocation CONFIG_CONDITION = Inspirations.getResource("config");
+  /** If true, serializers were already registered */
+  private static boolean registered = false;
+
+  private BenchmarkHelper() {}
+
+  /** Registers vanilla content, must be called before using any registry */
+  public static void bootstrap() {
+    Bootstrap.register();
+  }
+
+  /**
+   * Registers vanilla content along with the Inspirations recipe serializers and config condition
+   */
+  private static synchronized void registerSerializers() {
+    bootstrap();
+    if (registered) {
+      return;
+    }
+    registered = true;
+    InspirationsRecipes.forEachSerializer((serializer, name) -> Registry.register(Registry.RECIPE_SERIALIZER, Inspirations.getResource(name), serializer));
+    InspirationsRecipes.addContentOverrides();
+    // configs are not loaded outside the game, so load recipes as if every feature is enabled
+    CraftingHelper.register(new IConditionSerializer<TrueCondition>() {
+      @Override
+      public void write(JsonObject json, TrueCondition value) {}
+
+      @Override
+      public TrueCondition read(JsonObject json) {
+        return TrueCondition.INSTANCE;
+      }
+
+      @Override
+      public ResourceLocation getID() {
+        return CONFIG_CONDITION;
+      }
+    });
+  }
+
+  /**
+   * Gets the datapack root set by the Gradle tasks
+   * @return  Datapack root
+   */
+  public static Path getDefaultDatapack() {
+    String folder = System.getProperty(DATAPACK_PROPERTY);
+    if (folder == null) {
+      throw new IllegalStateException("Missing system property " + DATAPACK_PROPERTY + ", run benchmarks using the jmh task or pass a datapack");
+    }
+    return Paths.get(folder);
+  }
+
+  /**
+   * Loads all recipes in a datapack the same way as the recipe manager, using every registered serializer.
+   * Files that fail to load, such as recipes using unbound tags or content from other mods, are logged and skipped
+   * @param datapack  Datapack root folder or zip, containing the data folder
+   * @return  List of recipes in file order
+   */
+  public static List<IRecipe<?>> loadRecipes(Path datapack) {
+    registerSerializers();
+    if (Files.isRegularFile(datapack)) {
+      try (FileSystem zip = FileSystems.newFileSystem(datapack, (ClassLoader)null)) {
+        return loadRecipes(zip.getPath("/"), datapack);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return loadRecipes(datapack, datapack);
+  }
+
+  /**
+   * Loads all recipes from the given root
+   * @param root      Root path containing the data folder
+   * @param datapack  Datapack location for logging
+   * @return  List of recipes in file order
+   */
+  private static List<IRecipe<?>> loadRecipes(Path root, Path datapack) {
+    Path data = root.resolve("data");
+    if (!Files.isDirectory(data)) {
+      throw new IllegalArgumentException("Datapack " + datapack + " has no data folder");
+    }
+    List<Path> files;
+    try (Stream<Path> stream = Files.walk(data)) {
+      files = stream.filter(path -> path.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    List<IRecipe<?>> recipes = new ArrayList<>();
+    int skipped = 0, disabled = 0;
+    for (Path file : files) {
+      // data/<namespace>/recipes/<path>.json
+      Path relative = data.relativize(file);
+      if (relative.getNameCount() < 3 || !"recipes".equals(relative.getName(1).toString())) {
+        continue;
+      }
+      String path = relative.subpath(2, relative.getNameCount()).toString().replace('\\', '/');
+      ResourceLocation id = new ResourceLocation(relative.getName(0).toString(), path.substring(0, path.length() - 5));
+      try (Reader reader = Files.newBufferedReader(file)) {
+        JsonObject json = JSONUtils.fromJson(GSON, reader, JsonObject.class);
+        if (json == null) {
+          LOG.warn("Skipped recipe {}: empty file", id);
+          skipped++;
+        } else if (!CraftingHelper.processConditions(json, "conditions")) {
+          disabled++;
+        } else {
+          recipes.add(RecipeManager.deserializeRecipe(id, json));
+        }
+      } catch (JsonParseException | IllegalArgumentException | IllegalStateException e) {
+        LOG.warn("Skipped recipe {}: {}", id, e.getMessage());
+        skipped++;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    LOG.info("Loaded {} recipes from {}, skipped {} that failed to load and {} with unmet conditions", recipes.size(), datapack, skipped, disabled);
+    if (recipes.isEmpty()) {
+      throw new IllegalStateException("Failed to load any recipes from " + datapack);
+    }
+    return recipes;
+  }
+
+  /**
+   * Gets all cauldron recipes from a list of recipes
+   * @param recipes  Recipe list
+   * @return  Cauldron recipes in list order
+   */
+  public static List<ICauldronRecipe> getCauldronRecipes(List<IRecipe<?>> recipes) {
+    return recipes.stream().filter(recipe -> recipe instanceof ICauldronRecipe).map(recipe -> (ICauldronRecipe)recipe).collect(Collectors.toList());
+  }
+
+  /**
+   * Creates a recipe manager containing the given recipes
+   * @param recipes  Recipes to add
+   * @return  Recipe manager
+   */
+  public static RecipeManager makeRecipeManager(List<? extends IRecipe<?>> recipes) {
+    RecipeManager manager = new RecipeManager();
+    manager.deserializeRecipes(new ArrayList<>(recipes));
+    return manager;
+  }
+}
@@ -0,0 +1,84 @@
+package knightminer.inspirations.benchmark;
+
+import com.google.gson.JsonObject;
+import io.netty.buffer.Unpooled;
+import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.item.DyeColor;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.potion.Potions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading cauldron contents from each serialized format
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CauldronContentsReadBenchmark {
+  /** Contents type to read */
+  @Param({"fluid", "color", "dye", "potion"})
+  public String type;
+
+  private JsonObject json;
+  private CompoundNBT nbt;
+  private PacketBuffer buffer;
+  private PacketBuffer compactBuffer;
+
+  @Setup
+  public void setup() {
+    BenchmarkHelper.bootstrap();
+    ICauldronContents contents;
+    switch (type) {
+      case "color":  contents = CauldronContentTypes.COLOR.of(0x3F76E4); break;
+      case "dye":    contents = CauldronContentTypes.DYE.of(DyeColor.RED); break;
+      case "potion": contents = CauldronContentTypes.POTION.of(Potions.HEALING); break;
+      default:       contents = CauldronContentTypes.FLUID.of(Fluids.WATER); break;
+    }
+    json = contents.toJson();
+    nbt = contents.toNBT();
+    buffer = new PacketBuffer(Unpooled.buffer());
+    contents.write(buffer);
+    compactBuffer = new PacketBuffer(Unpooled.buffer());
+    CauldronContentTypes.writeCompact(contents, compactBuffer);
+  }
+
+  @Benchmark
+  public ICauldronContents readJson() {
+    return CauldronContentTypes.read(json);
+  }
+
+  @Benchmark
+  public ICauldronContents readNBT() {
+    return CauldronContentTypes.read(nbt);
+  }
+
+  @Benchmark
+  public ICauldronContents readPacket() {
+    buffer.readerIndex(0);
+    return CauldronContentTypes.read(buffer);
+  }
+
+  @Benchmark
+  public ICauldronContents readCompactPacket() {
+    compactBuffer.readerIndex(0);
+    return CauldronContentTypes.readCompact(compactBuffer);
+  }
+}
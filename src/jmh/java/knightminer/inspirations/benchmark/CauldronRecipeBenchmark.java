@@ -0,0 +1,93 @@
+package knightminer.inspirations.benchmark;
+
+import knightminer.inspirations.library.recipe.RecipeTypes;
+import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
+import knightminer.inspirations.library.recipe.cauldron.util.CauldronTemperature;
+import knightminer.inspirations.recipes.recipe.CauldronRecipeIndex;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.item.DyeColor;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares ways to find a cauldron recipe for a synthetic cauldron
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CauldronRecipeBenchmark {
+  /** Item held when interacting with the cauldron */
+  @Param({"minecraft:glass_bottle", "minecraft:bowl", "minecraft:stone"})
+  public String item;
+  /** Cauldron contents, either water or a dye color */
+  @Param({"water", "red"})
+  public String contents;
+  /** Cauldron level */
+  @Param({"4", "12"})
+  public int level;
+
+  private List<ICauldronRecipe> recipes;
+  private RecipeManager manager;
+  private SimulatedCauldronInventory inventory;
+
+  @Setup
+  public void setup() {
+    List<IRecipe<?>> allRecipes = BenchmarkHelper.loadRecipes(BenchmarkHelper.getDefaultDatapack());
+    recipes = BenchmarkHelper.getCauldronRecipes(allRecipes);
+    manager = BenchmarkHelper.makeRecipeManager(allRecipes);
+    ICauldronContents cauldronContents = "water".equals(contents) ? CauldronContentTypes.FLUID.of(Fluids.WATER) : CauldronContentTypes.DYE.of(Objects.requireNonNull(DyeColor.byTranslationKey(contents, null)));
+    ItemStack stack = new ItemStack(Objects.requireNonNull(ForgeRegistries.ITEMS.getValue(new ResourceLocation(item))));
+    inventory = new SimulatedCauldronInventory(stack, cauldronContents, level, CauldronTemperature.NORMAL, false);
+  }
+
+  /** Tests every recipe against the inventory */
+  @Benchmark
+  public int matchAll() {
+    int matches = 0;
+    for (ICauldronRecipe recipe : recipes) {
+      // cauldron recipes do not use the world for matching
+      if (recipe.matches(inventory, null)) {
+        matches++;
+      }
+    }
+    return matches;
+  }
+
+  /** Vanilla lookup, tests each recipe until one matches */
+  @Benchmark
+  @Nullable
+  public ICauldronRecipe recipeManager() {
+    return manager.getRecipe(RecipeTypes.CAULDRON, inventory, null).orElse(null);
+  }
+
+  /** Indexed lookup used by cauldrons. Repeats the same input, so misses are answered by the miss cache, see {@link CauldronRecipeLookupBenchmark} for uncached lookups */
+  @Benchmark
+  @Nullable
+  public ICauldronRecipe recipeIndex() {
+    return CauldronRecipeIndex.findRecipe(manager, null, inventory);
+  }
+}
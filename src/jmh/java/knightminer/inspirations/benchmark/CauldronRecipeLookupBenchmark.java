@@ -0,0 +1,94 @@
+package knightminer.inspirations.benchmark;
+
+import knightminer.inspirations.library.recipe.RecipeTypes;
+import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
+import knightminer.inspirations.library.recipe.cauldron.util.CauldronTemperature;
+import knightminer.inspirations.recipes.recipe.CauldronRecipeIndex;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.item.DyeColor;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares recipe lookups over a rotating set of inventories, covering every item at every level.
+ * The set is much larger than the recipe index miss cache, so each lookup runs the bucket and filter search instead of hitting the cache
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CauldronRecipeLookupBenchmark {
+  /** Cauldron contents, either water or a dye color */
+  @Param({"water", "red"})
+  public String contents;
+
+  private RecipeManager manager;
+  private SimulatedCauldronInventory[] inventories;
+  private int next = 0;
+
+  @Setup
+  public void setup() {
+    manager = BenchmarkHelper.makeRecipeManager(BenchmarkHelper.loadRecipes(BenchmarkHelper.getDefaultDatapack()));
+    ICauldronContents cauldronContents = "water".equals(contents) ? CauldronContentTypes.FLUID.of(Fluids.WATER) : CauldronContentTypes.DYE.of(Objects.requireNonNull(DyeColor.byTranslationKey(contents, null)));
+    List<SimulatedCauldronInventory> list = new ArrayList<>();
+    for (Item item : ForgeRegistries.ITEMS) {
+      if (item != Items.AIR) {
+        for (int level = 0; level <= ICauldronRecipe.MAX; level++) {
+          list.add(new SimulatedCauldronInventory(new ItemStack(item), cauldronContents, level, CauldronTemperature.NORMAL, false));
+        }
+      }
+    }
+    inventories = list.toArray(new SimulatedCauldronInventory[0]);
+  }
+
+  /**
+   * Gets the next inventory in the rotation
+   * @return  Inventory
+   */
+  private SimulatedCauldronInventory nextInventory() {
+    SimulatedCauldronInventory inventory = inventories[next];
+    next++;
+    if (next == inventories.length) {
+      next = 0;
+    }
+    return inventory;
+  }
+
+  /** Vanilla lookup, tests each recipe until one matches */
+  @Benchmark
+  @Nullable
+  public ICauldronRecipe recipeManager() {
+    return manager.getRecipe(RecipeTypes.CAULDRON, nextInventory(), null).orElse(null);
+  }
+
+  /** Indexed lookup used by cauldrons, the rotation defeats the miss cache */
+  @Benchmark
+  @Nullable
+  public ICauldronRecipe recipeIndex() {
+    return CauldronRecipeIndex.findRecipe(manager, null, nextInventory());
+  }
+}
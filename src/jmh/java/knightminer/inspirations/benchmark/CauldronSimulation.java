@@ -0,0 +1,227 @@
+package knightminer.inspirations.benchmark;
+
+import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
+import knightminer.inspirations.library.recipe.cauldron.util.CauldronTemperature;
+import knightminer.inspirations.recipes.recipe.CauldronRecipeIndex;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.registries.ForgeRegistries;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Replays recorded cauldron interactions against the cauldron recipes without a world, reporting recipe matches, latency, and allocation.
+ * <p>
+ * Run using {@code gradlew simulateCauldron -PsimArgs="<datapack> <recording> [repeat]"}, where the datapack is a folder or zip containing a data folder.
+ * Recipes are loaded from the datapack using every registered serializer, recipes that fail to load are logged.
+ * The recording is a tab separated file with one interaction per line:
+ * <pre>item  count  contents type  contents name  level  temperature</pre>
+ * for example {@code minecraft:glass_bottle 1 inspirations:fluid minecraft:water 12 normal}. Blank lines and lines starting with # are ignored.
+ */
+public class CauldronSimulation {
+  /** Number of power of two latency buckets, last bucket holds everything slower */
+  private static final int BUCKETS = 40;
+
+  private final RecipeManager manager;
+  private final SimulatedCauldronInventory inventory;
+  /** Number of interactions matching each recipe */
+  private final Object2IntMap<ResourceLocation> matches = new Object2IntOpenHashMap<>();
+  /** Interaction counts by latency, index n holds latencies under 2^n nanoseconds */
+  private final long[] latency = new long[BUCKETS];
+  private long interactions = 0;
+  private long misses = 0;
+  private long totalNanos = 0;
+
+  /**
+   * Creates a new simulation
+   * @param manager  Recipe manager containing the recipes
+   */
+  public CauldronSimulation(RecipeManager manager) {
+    this.manager = manager;
+    this.inventory = new SimulatedCauldronInventory(ItemStack.EMPTY, CauldronContentTypes.DEFAULT.get(), 0, CauldronTemperature.NORMAL, false);
+  }
+
+  /**
+   * Finds and applies the recipe for a single interaction
+   * @param interaction  Interaction to run
+   */
+  public void run(Interaction interaction) {
+    inventory.reset(interaction.stack.copy(), interaction.contents, interaction.level, interaction.temperature);
+    long start = System.nanoTime();
+    // cauldron recipes do not use the world for matching
+    ICauldronRecipe recipe = CauldronRecipeIndex.findRecipe(manager, null, inventory);
+    if (recipe != null) {
+      recipe.handleRecipe(inventory);
+    }
+    long time = System.nanoTime() - start;
+
+    // record results
+    interactions++;
+    totalNanos += time;
+    latency[Math.min(64 - Long.numberOfLeadingZeros(time), BUCKETS - 1)]++;
+    if (recipe == null) {
+      misses++;
+    } else {
+      matches.put(recipe.getId(), matches.getInt(recipe.getId()) + 1);
+    }
+  }
+
+  /**
+   * Gets the latency under which the given fraction of interactions completed
+   * @param fraction  Fraction between 0 and 1
+   * @return  Latency upper bound in nanoseconds
+   */
+  private long percentile(double fraction) {
+    long target = (long)Math.ceil(interactions * fraction);
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += latency[i];
+      if (seen >= target) {
+        return 1L << i;
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+
+  /**
+   * Prints the simulation results
+   * @param allocated  Bytes allocated during the simulation, or -1 if unknown
+   * @param wallNanos  Total run time including bookkeeping
+   */
+  private void report(long allocated, long wallNanos) {
+    System.out.printf("Interactions: %d, matched: %d, missed: %d%n", interactions, interactions - misses, misses);
+    System.out.printf("Average latency: %.1f ns, p50 < %d ns, p90 < %d ns, p99 < %d ns%n",
+                      (double)totalNanos / interactions, percentile(0.5), percentile(0.9), percentile(0.99));
+    if (allocated >= 0) {
+      System.out.printf("Allocated: %.1f bytes per interaction, %.1f MB/s%n",
+                        (double)allocated / interactions, allocated / 1048576.0 / (wallNanos / 1e9));
+    }
+
+    System.out.println();
+    System.out.println("Latency histogram:");
+    for (int i = 0; i < BUCKETS; i++) {
+      if (latency[i] > 0) {
+        System.out.printf("  < %12d ns: %d%n", 1L << i, latency[i]);
+      }
+    }
+
+    System.out.println();
+    System.out.println("Recipe matches:");
+    List<Object2IntMap.Entry<ResourceLocation>> entries = new ArrayList<>(matches.object2IntEntrySet());
+    entries.sort(Comparator.comparingInt(Object2IntMap.Entry<ResourceLocation>::getIntValue).reversed());
+    for (Object2IntMap.Entry<ResourceLocation> entry : entries) {
+      System.out.printf("  %10d %s%n", entry.getIntValue(), entry.getKey());
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: CauldronSimulation <datapack> <recording> [repeat]");
+      System.exit(1);
+    }
+    CauldronSimulation simulation = new CauldronSimulation(BenchmarkHelper.makeRecipeManager(BenchmarkHelper.loadRecipes(Paths.get(args[0]))));
+    List<Interaction> recording = Interaction.readAll(Paths.get(args[1]));
+    int repeat = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+    // allocation tracking is only available on some JVMs
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    com.sun.management.ThreadMXBean allocation = threads instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean)threads : null;
+    long thread = Thread.currentThread().getId();
+    long allocatedStart = allocation != null ? allocation.getThreadAllocatedBytes(thread) : 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < repeat; i++) {
+      for (Interaction interaction : recording) {
+        simulation.run(interaction);
+      }
+    }
+    long wallNanos = System.nanoTime() - start;
+    long allocated = allocation != null ? allocation.getThreadAllocatedBytes(thread) - allocatedStart : -1;
+    simulation.report(allocated, wallNanos);
+  }
+
+  /** Single recorded cauldron interaction */
+  public static class Interaction {
+    private final ItemStack stack;
+    private final ICauldronContents contents;
+    private final int level;
+    private final CauldronTemperature temperature;
+
+    /**
+     * Creates a new interaction
+     * @param stack        Held stack
+     * @param contents     Cauldron contents
+     * @param level        Cauldron level
+     * @param temperature  Cauldron temperature
+     */
+    public Interaction(ItemStack stack, ICauldronContents contents, int level, CauldronTemperature temperature) {
+      this.stack = stack;
+      this.contents = contents;
+      this.level = level;
+      this.temperature = temperature;
+    }
+
+    /**
+     * Parses an interaction from a recording line
+     * @param line  Tab separated line
+     * @return  Interaction
+     * @throws IllegalArgumentException  If the line is invalid
+     */
+    public static Interaction parse(String line) {
+      String[] parts = line.split("\t");
+      if (parts.length != 6) {
+        throw new IllegalArgumentException("Expected 6 columns, got " + parts.length);
+      }
+      Item item = ForgeRegistries.ITEMS.getValue(new ResourceLocation(parts[0]));
+      if (item == null || item == Items.AIR) {
+        throw new IllegalArgumentException("Unknown item '" + parts[0] + "'");
+      }
+      JsonObject json = new JsonObject();
+      json.addProperty(CauldronContentTypes.KEY_TYPE, parts[2]);
+      json.addProperty("name", parts[3]);
+      return new Interaction(new ItemStack(item, Integer.parseInt(parts[1])),
+                             CauldronContentTypes.read(json),
+                             Integer.parseInt(parts[4]),
+                             CauldronTemperature.valueOf(parts[5].toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * Reads all interactions from a recording
+     * @param path  Recording path
+     * @return  List of interactions
+     * @throws IOException  If the file fails to read
+     */
+    public static List<Interaction> readAll(Path path) throws IOException {
+      List<Interaction> interactions = new ArrayList<>();
+      List<String> lines = Files.readAllLines(path);
+      for (int i = 0; i < lines.size(); i++) {
+        String line = lines.get(i).trim();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        try {
+          interactions.add(parse(line));
+        } catch (RuntimeException e) {
+          throw new IllegalArgumentException("Invalid interaction on line " + (i + 1) + ": " + e.getMessage(), e);
+        }
+      }
+      return interactions;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package knightminer.inspirations.benchmark;
+
+import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
+import knightminer.inspirations.library.recipe.cauldron.CauldronIngredients;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.ingredient.ICauldronIngredient;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.item.DyeColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures testing cauldron contents against single and multiple value ingredients
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContentMatchIngredientBenchmark {
+  private ICauldronIngredient water;
+  private ICauldronIngredient red;
+  private ICauldronIngredient warmDyes;
+  private ICauldronContents[] contents;
+
+  @Setup
+  public void setup() {
+    BenchmarkHelper.bootstrap();
+    water = CauldronIngredients.FLUID.of(Fluids.WATER);
+    red = CauldronIngredients.DYE.of(DyeColor.RED);
+    warmDyes = CauldronIngredients.DYE.of(EnumSet.of(DyeColor.RED, DyeColor.ORANGE, DyeColor.YELLOW, DyeColor.PINK));
+    contents = new ICauldronContents[] {
+        CauldronContentTypes.FLUID.of(Fluids.WATER),
+        CauldronContentTypes.FLUID.of(Fluids.LAVA),
+        CauldronContentTypes.DYE.of(DyeColor.RED),
+        CauldronContentTypes.DYE.of(DyeColor.BLUE),
+        CauldronContentTypes.COLOR.of(0xFF0000)
+    };
+  }
+
+  /**
+   * Counts the contents matching the given ingredient
+   * @param ingredient  Ingredient to test
+   * @return  Number of matches
+   */
+  private int countMatches(ICauldronIngredient ingredient) {
+    int matches = 0;
+    for (ICauldronContents value : contents) {
+      if (ingredient.test(value)) {
+        matches++;
+      }
+    }
+    return matches;
+  }
+
+  @Benchmark
+  public int fluid() {
+    return countMatches(water);
+  }
+
+  @Benchmark
+  public int single() {
+    return countMatches(red);
+  }
+
+  @Benchmark
+  public int multi() {
+    return countMatches(warmDyes);
+  }
+}
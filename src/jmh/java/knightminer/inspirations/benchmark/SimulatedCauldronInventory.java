@@ -0,0 +1,128 @@
+package knightminer.inspirations.benchmark;
+
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
+import knightminer.inspirations.library.recipe.cauldron.util.CauldronTemperature;
+import knightminer.inspirations.recipes.recipe.inventory.CauldronItemInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.MathHelper;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cauldron inventory held entirely in memory, for running recipes without a world
+ */
+public class SimulatedCauldronInventory extends CauldronItemInventory {
+  private final boolean simple;
+  private ICauldronContents contents;
+  private int level;
+  private CauldronTemperature temperature;
+  /** Stacks given by recipes, in order */
+  private final List<ItemStack> given = new ArrayList<>();
+  /** Last sound played, null if none */
+  @Nullable
+  private SoundEvent sound;
+
+  /**
+   * Creates a new inventory
+   * @param stack        Item stack used to interact
+   * @param contents     Cauldron contents
+   * @param level        Cauldron level
+   * @param temperature  Cauldron temperature
+   * @param simple       If true, behaves like a vanilla cauldron
+   */
+  public SimulatedCauldronInventory(ItemStack stack, ICauldronContents contents, int level, CauldronTemperature temperature, boolean simple) {
+    this.stack = stack;
+    this.contents = contents;
+    this.level = level;
+    this.temperature = temperature;
+    this.simple = simple;
+  }
+
+  /**
+   * Resets this inventory to a new state, allowing reuse between interactions
+   * @param stack        Item stack used to interact
+   * @param contents     Cauldron contents
+   * @param level        Cauldron level
+   * @param temperature  Cauldron temperature
+   */
+  public void reset(ItemStack stack, ICauldronContents contents, int level, CauldronTemperature temperature) {
+    this.stack = stack;
+    this.contents = contents;
+    this.level = level;
+    this.temperature = temperature;
+    this.given.clear();
+    this.sound = null;
+  }
+
+  @Override
+  public boolean isSimple() {
+    return simple;
+  }
+
+  @Override
+  public void giveStack(ItemStack stack) {
+    given.add(stack);
+  }
+
+  /**
+   * Gets all stacks given by recipes since the last reset
+   * @return  List of given stacks
+   */
+  public List<ItemStack> getGivenStacks() {
+    return given;
+  }
+
+  @Override
+  public void playSound(SoundEvent sound) {
+    this.sound = sound;
+  }
+
+  /**
+   * Gets the last sound played since the last reset
+   * @return  Sound, or null if none played
+   */
+  @Nullable
+  public SoundEvent getSound() {
+    return sound;
+  }
+
+
+  /* Cauldron state */
+
+  @Override
+  public ICauldronContents getContents() {
+    return contents;
+  }
+
+  @Override
+  public void setContents(ICauldronContents contents) {
+    this.contents = contents;
+  }
+
+  @Override
+  public int getLevel() {
+    return level;
+  }
+
+  @Override
+  public void setLevel(int level) {
+    this.level = MathHelper.clamp(level, 0, ICauldronRecipe.MAX);
+  }
+
+  @Override
+  public CauldronTemperature getTemperature() {
+    return temperature;
+  }
+
+  /**
+   * Updates the temperature of the cauldron
+   * @param temperature  New temperature
+   */
+  public void setTemperature(CauldronTemperature temperature) {
+    this.temperature = temperature;
+  }
+}
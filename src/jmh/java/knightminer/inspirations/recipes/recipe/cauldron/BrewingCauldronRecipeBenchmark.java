@@ -0,0 +1,67 @@
+package knightminer.inspirations.recipes.recipe.cauldron;
+
+import knightminer.inspirations.Inspirations;
+import knightminer.inspirations.benchmark.BenchmarkHelper;
+import net.minecraft.item.ItemStack;
+import net.minecraft.potion.Potion;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding a vanilla potion mix for a cauldron brewing recipe.
+ * In this package to access {@link BrewingCauldronRecipe#getResult(Potion, ItemStack)}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BrewingCauldronRecipeBenchmark {
+  /** Potion and reagent, separated by a comma */
+  @Param({"water,nether_wart", "awkward,magma_cream", "long_swiftness,fermented_spider_eye", "water,stone"})
+  public String mix;
+
+  private BrewingCauldronRecipe recipe;
+  private Potion potion;
+  private ItemStack reagent;
+  /** Alternates between the potion and water, to miss the last mix cache */
+  private Potion water;
+
+  @Setup
+  public void setup() {
+    BenchmarkHelper.bootstrap();
+    String[] split = mix.split(",");
+    potion = Objects.requireNonNull(ForgeRegistries.POTION_TYPES.getValue(new ResourceLocation(split[0])));
+    reagent = new ItemStack(Objects.requireNonNull(ForgeRegistries.ITEMS.getValue(new ResourceLocation(split[1]))));
+    water = Objects.requireNonNull(ForgeRegistries.POTION_TYPES.getValue(new ResourceLocation("water")));
+    recipe = new BrewingCauldronRecipe.Vanilla(Inspirations.getResource("benchmark"), true);
+  }
+
+  /** Same input every time */
+  @Benchmark
+  public Potion repeated() {
+    return recipe.getResult(potion, reagent);
+  }
+
+  /** Two inputs, so the last mix rarely matches */
+  @Benchmark
+  public Potion alternating() {
+    recipe.getResult(water, reagent);
+    return recipe.getResult(potion, reagent);
+  }
+}
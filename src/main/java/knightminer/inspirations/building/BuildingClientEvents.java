@@ -89,7 +89,7 @@ public class BuildingClientEvents extends ClientEvents {
         if (te instanceof BookshelfTileEntity) {
           ItemStack stack = ((BookshelfTileEntity)te).getStackInSlot(tintIndex - 1);
           if (!stack.isEmpty()) {
-            int color = ClientUtil.getItemColor(stack.getItem());
+            int color = ClientUtil.getItemColor(stack.getItem(), pos);
             int itemColors = mc.getItemColors().getColor(stack, 0);
             if (itemColors > -1) {
               // combine twice to make sure the item colors result is dominant
@@ -3,6 +3,7 @@ package knightminer.inspirations.building;
 import knightminer.inspirations.Inspirations;
 import knightminer.inspirations.building.block.RopeBlock;
 import knightminer.inspirations.common.Config;
+import knightminer.inspirations.library.InspirationsRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.SoundType;
 import net.minecraft.entity.player.PlayerEntity;
@@ -12,6 +13,7 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
@@ -23,6 +25,14 @@ import javax.annotation.Nullable;
 @SuppressWarnings({"unused"})
 @EventBusSubscriber(modid = Inspirations.modID, bus = Bus.FORGE)
 public class BuildingEvents {
+  /**
+   * Reclassifies books when tags change, as the books tag may contain different items
+   */
+  @SubscribeEvent
+  static void tagsUpdated(TagsUpdatedEvent event) {
+    InspirationsRegistry.rebuildBookPowers();
+  }
+
   /**
    * Rope ladder event is used to allow sneak right click interaction to have special logic, as opposed to the standard interaction method
    */
@@ -6,6 +6,7 @@ import knightminer.inspirations.common.network.InspirationsNetwork;
 import knightminer.inspirations.common.network.InventorySlotSyncPacket;
 import knightminer.inspirations.library.InspirationsRegistry;
 import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
@@ -31,10 +32,17 @@ public class BookshelfTileEntity extends InventoryTileEntity implements IRetextu
   public static final ModelProperty<Integer> BOOKS = new ModelProperty<>();
   private static final ITextComponent TITLE = new TranslationTextComponent("gui.inspirations.bookshelf.name");
 
-  /**
-   * Cached enchantment bonus, so we are not constantly digging the inventory
-   */
-  private float enchantBonus = Float.NaN;
+  /* Slot indexes, updated as slots change so queries do not need to dig the inventory */
+  /** Bitmask of slots containing a stack */
+  private int books = 0;
+  /** Bitmask of slots containing a redstone book */
+  private int redstoneBooks = 0;
+  /** Enchanting power of the book in each slot */
+  private final float[] bookPower = new float[14];
+  /** Sum of all values in {@link #bookPower} */
+  private float totalPower = 0;
+  /** Registry book version used to calculate {@link #bookPower} */
+  private int bookVersion = InspirationsRegistry.getBookVersion();
 
   private final IModelData data = new ModelDataMap.Builder().withProperty(BOOKS).withProperty(RetexturedHelper.BLOCK_PROPERTY).build();
   public BookshelfTileEntity() {
@@ -50,6 +58,8 @@ public class BookshelfTileEntity extends InventoryTileEntity implements IRetextu
       InspirationsNetwork.sendToClients((ServerWorld)getWorld(), this.pos, new InventorySlotSyncPacket(itemstack, slot, pos));
     }
     super.setInventorySlotContents(slot, itemstack);
+    // update indexes before notifying comparators, as they read the redstone books right away
+    updateSlot(slot, itemstack);
 
     if (world != null) {
       // update for rendering
@@ -62,9 +72,49 @@ public class BookshelfTileEntity extends InventoryTileEntity implements IRetextu
         world.updateComparatorOutputLevel(pos, this.getBlockState().getBlock());
       }
     }
+  }
+
+  /**
+   * Updates the slot indexes for a changed stack
+   * @param slot   Slot index
+   * @param stack  New stack in the slot
+   */
+  private void updateSlot(int slot, ItemStack stack) {
+    int bit = 1 << slot;
+    float power = 0;
+    if (stack.isEmpty()) {
+      books &= ~bit;
+      redstoneBooks &= ~bit;
+    } else {
+      books |= bit;
+      if (stack.getItem() == InspirationsBuilding.redstoneBook) {
+        redstoneBooks |= bit;
+      } else {
+        redstoneBooks &= ~bit;
+      }
+      power = Math.max(InspirationsRegistry.getBookEnchantingPower(stack), 0);
+    }
+    // reset when empty so float error cannot accumulate over many changes
+    totalPower = books == 0 ? 0 : totalPower - bookPower[slot] + power;
+    bookPower[slot] = power;
+  }
+
+  /** Rebuilds all slot indexes from the inventory */
+  private void rebuildIndexes() {
+    books = 0;
+    redstoneBooks = 0;
+    totalPower = 0;
+    bookVersion = InspirationsRegistry.getBookVersion();
+    for (int i = 0; i < bookPower.length; i++) {
+      bookPower[i] = 0;
+      updateSlot(i, getStackInSlot(i));
+    }
+  }
 
-    // clear bonus to recalculate it
-    enchantBonus = Float.NaN;
+  @Override
+  public void read(BlockState state, CompoundNBT tags) {
+    super.read(state, tags);
+    rebuildIndexes();
   }
 
   /*
@@ -109,34 +159,17 @@ public class BookshelfTileEntity extends InventoryTileEntity implements IRetextu
    */
 
   public int getComparatorPower() {
-    for (int i = 0; i < 14; i++) {
-      if (getStackInSlot(i).getItem() == InspirationsBuilding.redstoneBook) {
-        // we do plus two so a book in slot 13 (last one) gives 15
-        return i + 2;
-      }
-    }
-    return 0;
+    // we do plus two so a book in slot 13 (last one) gives 15
+    return redstoneBooks == 0 ? 0 : Integer.numberOfTrailingZeros(redstoneBooks) + 2;
   }
 
   public float getEnchantPower() {
-    // if we have a cached value, use that
-    if (!Float.isNaN(enchantBonus)) {
-      return enchantBonus;
+    // book keywords changed, powers are stale
+    if (bookVersion != InspirationsRegistry.getBookVersion()) {
+      rebuildIndexes();
     }
-    // simple sum of all books with the power of a full shelf
-    float books = 0;
-    for (int i = 0; i < this.getSizeInventory(); i++) {
-      if (isStackInSlot(i)) {
-        float power = InspirationsRegistry.getBookEnchantingPower(getStackInSlot(i));
-        if (power >= 0) {
-          books += power;
-        }
-      }
-    }
-
     // divide by 14 since that is the number of books in a shelf
-    enchantBonus = books / 14;
-    return enchantBonus;
+    return totalPower / 14;
   }
 
   /*
@@ -144,13 +177,6 @@ public class BookshelfTileEntity extends InventoryTileEntity implements IRetextu
    */
   @Override
   public IModelData getModelData() {
-    // pack books into integer
-    int books = 0;
-    for (int i = 0; i < 14; i++) {
-      if (isStackInSlot(i)) {
-        books |= 1 << i;
-      }
-    }
     // get texture if present
     data.setData(BOOKS, books);
     Block texture = getTexture();
@@ -62,8 +62,11 @@ public class Config {
   public static final CachedBoolean enableCarpetedTrapdoor;
   public static final CachedBoolean enableCarpetedPressurePlate;
   public static final CachedBoolean enableCollector;
+  public static final CachedValue<Integer> collectorExtractAmount;
   public static final CachedBoolean enablePipe;
   public static final CachedBoolean pipeUpwards;
+  public static final CachedValue<Integer> pipeCooldown;
+  public static final CachedValue<Integer> pipeTransferAmount;
   //public static BooleanValue enableDispenserFluidTanks;
   //public static BooleanValue milkSquids;
   //public static IntValue milkSquidCooldown;
@@ -312,6 +315,9 @@ public class Config {
           .comment("Enables the collector: extracts items from inventories or the world similar to a hopper, but can face in all 6 directions and cannot place items in inventories")
           .worldRestart()
           .define("collector", true));
+      collectorExtractAmount = server(server
+          .comment("Maximum number of items a collector extracts from an inventory per pulse. Larger values pull from multiple slots until the amount is reached or the collector is full.")
+          .defineInRange("collectorExtractAmount", 1, 1, 576));
 
       // pipe
       enablePipe = and(utilityModule, server
@@ -321,6 +327,12 @@ public class Config {
       pipeUpwards = server(server
           .comment("Allows pipes to output upwards. This removes a limitation on not being able to pipe items up without dropper elevators, but should be balanced alongside modded pipes.")
           .define("pipe.upwards", true));
+      pipeCooldown = server(server
+          .comment("Ticks between each pipe transferring an item. Pipe networks may override this using the transferCooldown tag on the last pipe in the network.")
+          .defineInRange("pipe.cooldown", 8, 1, Short.MAX_VALUE));
+      pipeTransferAmount = server(server
+          .comment("Maximum number of items each pipe transfers at once. Larger values move as much of the stack as the target accepts in a single insert. Pipes may override this using the transferAmount tag.")
+          .defineInRange("pipe.transferAmount", 1, 1, 64));
 
       // dispenser fluid containers
 			/*
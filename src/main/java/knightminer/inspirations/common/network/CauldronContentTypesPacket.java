@@ -0,0 +1,52 @@
+package knightminer.inspirations.common.network;
+
+import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fml.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.ISimplePacket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Packet to sync cauldron content type IDs to the client on login, allowing {@link CauldronStateUpdatePacket} to write types as IDs
+ */
+public class CauldronContentTypesPacket implements ISimplePacket {
+  private final List<ResourceLocation> names;
+
+  /**
+   * Creates a new packet with all local type IDs
+   */
+  CauldronContentTypesPacket() {
+    this.names = CauldronContentTypes.getNamesById();
+  }
+
+  /**
+   * Reads the packet from the buffer
+   * @param buffer  Buffer instance
+   */
+  public CauldronContentTypesPacket(PacketBuffer buffer) {
+    int size = buffer.readVarInt();
+    this.names = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      names.add(buffer.readResourceLocation());
+    }
+  }
+
+  @Override
+  public void encode(PacketBuffer buffer) {
+    buffer.writeVarInt(names.size());
+    for (ResourceLocation name : names) {
+      buffer.writeResourceLocation(name);
+    }
+  }
+
+  @Override
+  public void handle(Supplier<Context> context) {
+    // handled on the network thread, so the IDs are set before any later packets are decoded
+    CauldronContentTypes.setRemoteIds(names);
+    context.get().setPacketHandled(true);
+  }
+}
@@ -1,37 +1,52 @@
 package knightminer.inspirations.common.network;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import knightminer.inspirations.library.Util;
 import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
 import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronTransform;
 import knightminer.inspirations.recipes.tileentity.CauldronTileEntity;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
 import net.minecraftforge.fml.network.NetworkEvent.Context;
 import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.recipe.RecipeHelper;
 import slimeknights.mantle.util.TileEntityHelper;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Packet to update the client when cauldron contents or level offset change
+ * Packet to update the client when cauldron contents, level offset, or transform recipe change.
+ * Contains all changes to cauldrons in a single chunk during a tick, see {@link CauldronUpdateQueue}
  */
 public class CauldronStateUpdatePacket implements IThreadsafePacket {
-  private final BlockPos pos;
-  @Nullable
-  private final ICauldronContents contents;
-  private final int levelOffset;
+  /** Set if the level offset changed, offset is stored in the upper bits */
+  private static final int FLAG_STATE = 1;
+  /** Set if the contents changed, followed by a palette index */
+  private static final int FLAG_CONTENTS = 2;
+  /** Set if the transform changed, followed by a palette index */
+  private static final int FLAG_TRANSFORM = 4;
+  /** Shift for the level offset in the flags, offset is between -3 and 3 */
+  private static final int OFFSET_SHIFT = 4;
+
+  private final ChunkPos chunk;
+  private final List<Entry> entries;
 
   /**
-   * Updates cauldron contents and level offset from the server
-   * @param pos          Cauldron position
-   * @param contents     New contents, null if no change
-   * @param levelOffset  New level offset
+   * Creates a new packet from queued updates
+   * @param chunk    Chunk containing all cauldrons
+   * @param entries  Cauldron updates
    */
-  public CauldronStateUpdatePacket(BlockPos pos, @Nullable ICauldronContents contents, int levelOffset) {
-    this.pos = pos;
-    this.contents = contents;
-    this.levelOffset = levelOffset;
+  CauldronStateUpdatePacket(ChunkPos chunk, List<Entry> entries) {
+    this.chunk = chunk;
+    this.entries = entries;
   }
 
   /**
@@ -39,25 +54,109 @@ public class CauldronStateUpdatePacket implements IThreadsafePacket {
    * @param buffer  Buffer instance
    */
   public CauldronStateUpdatePacket(PacketBuffer buffer) {
-    this.pos = buffer.readBlockPos();
-    if (buffer.readBoolean()) {
-      this.contents = CauldronContentTypes.read(buffer);
-    } else {
-      this.contents = null;
+    this.chunk = new ChunkPos(buffer.readVarInt(), buffer.readVarInt());
+
+    // palettes
+    ICauldronContents[] contentsPalette = new ICauldronContents[buffer.readVarInt()];
+    for (int i = 0; i < contentsPalette.length; i++) {
+      contentsPalette[i] = CauldronContentTypes.readCompact(buffer);
+    }
+    ResourceLocation[] transformPalette = new ResourceLocation[buffer.readVarInt()];
+    for (int i = 0; i < transformPalette.length; i++) {
+      transformPalette[i] = buffer.readResourceLocation();
+    }
+
+    // cauldron updates
+    int size = buffer.readVarInt();
+    this.entries = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      Entry entry = new Entry(buffer.readShort());
+      int flags = buffer.readUnsignedByte();
+      if ((flags & FLAG_STATE) != 0) {
+        ICauldronContents contents = null;
+        if ((flags & FLAG_CONTENTS) != 0) {
+          contents = contentsPalette[buffer.readVarInt()];
+        }
+        entry.setState(contents, (flags >> OFFSET_SHIFT) - 3);
+      }
+      if ((flags & FLAG_TRANSFORM) != 0) {
+        int index = buffer.readVarInt();
+        entry.setTransform(index == 0 ? null : transformPalette[index - 1]);
+      }
+      entries.add(entry);
     }
-    this.levelOffset = buffer.readByte();
   }
 
   @Override
   public void encode(PacketBuffer buffer) {
-    buffer.writeBlockPos(pos);
-    if (contents != null) {
-      buffer.writeBoolean(true);
-      contents.write(buffer);
-    } else {
-      buffer.writeBoolean(false);
+    buffer.writeVarInt(chunk.x);
+    buffer.writeVarInt(chunk.z);
+
+    // build palettes, so contents and recipes shared by several cauldrons are only written once
+    Object2IntMap<ICauldronContents> contentsIds = new Object2IntOpenHashMap<>();
+    Object2IntMap<ResourceLocation> transformIds = new Object2IntOpenHashMap<>();
+    List<ICauldronContents> contentsPalette = new ArrayList<>();
+    List<ResourceLocation> transformPalette = new ArrayList<>();
+    for (Entry entry : entries) {
+      if (entry.contents != null && !contentsIds.containsKey(entry.contents)) {
+        contentsIds.put(entry.contents, contentsPalette.size());
+        contentsPalette.add(entry.contents);
+      }
+      if (entry.transform != null && !transformIds.containsKey(entry.transform)) {
+        transformIds.put(entry.transform, transformPalette.size());
+        transformPalette.add(entry.transform);
+      }
+    }
+    buffer.writeVarInt(contentsPalette.size());
+    for (ICauldronContents contents : contentsPalette) {
+      CauldronContentTypes.writeCompact(contents, buffer);
+    }
+    buffer.writeVarInt(transformPalette.size());
+    for (ResourceLocation transform : transformPalette) {
+      buffer.writeResourceLocation(transform);
+    }
+
+    // cauldron updates
+    buffer.writeVarInt(entries.size());
+    for (Entry entry : entries) {
+      buffer.writeShort(entry.packedPos);
+      int flags = 0;
+      if (entry.hasState) {
+        flags |= FLAG_STATE | ((entry.levelOffset + 3) << OFFSET_SHIFT);
+        if (entry.contents != null) {
+          flags |= FLAG_CONTENTS;
+        }
+      }
+      if (entry.hasTransform) {
+        flags |= FLAG_TRANSFORM;
+      }
+      buffer.writeByte(flags);
+      if (entry.hasState && entry.contents != null) {
+        buffer.writeVarInt(contentsIds.getInt(entry.contents));
+      }
+      if (entry.hasTransform) {
+        buffer.writeVarInt(entry.transform == null ? 0 : transformIds.getInt(entry.transform) + 1);
+      }
     }
-    buffer.writeByte(levelOffset);
+  }
+
+  /**
+   * Packs a position into a short relative to its chunk
+   * @param pos  Position to pack
+   * @return  Packed position
+   */
+  static short packPos(BlockPos pos) {
+    return (short)((pos.getX() & 15) << 12 | (pos.getZ() & 15) << 8 | (pos.getY() & 255));
+  }
+
+  /**
+   * Unpacks a position from {@link #packPos(BlockPos)}
+   * @param chunk   Chunk containing the position
+   * @param packed  Packed position
+   * @return  Block position
+   */
+  private static BlockPos unpackPos(ChunkPos chunk, short packed) {
+    return new BlockPos(chunk.getXStart() + (packed >> 12 & 15), packed & 255, chunk.getZStart() + (packed >> 8 & 15));
   }
 
   @Override
@@ -65,14 +164,62 @@ public class CauldronStateUpdatePacket implements IThreadsafePacket {
     HandleClient.handle(this);
   }
 
+  /** Changes to a single cauldron */
+  static class Entry {
+    private final short packedPos;
+    private boolean hasState = false;
+    @Nullable
+    private ICauldronContents contents = null;
+    private int levelOffset = 0;
+    private boolean hasTransform = false;
+    @Nullable
+    private ResourceLocation transform = null;
+
+    Entry(short packedPos) {
+      this.packedPos = packedPos;
+    }
+
+    /**
+     * Updates the contents and level offset
+     * @param contents     New contents, null for no change
+     * @param levelOffset  New level offset
+     */
+    void setState(@Nullable ICauldronContents contents, int levelOffset) {
+      if (contents != null) {
+        this.contents = contents;
+      }
+      this.levelOffset = levelOffset;
+      this.hasState = true;
+    }
+
+    /**
+     * Updates the transform recipe
+     * @param transform  New transform ID, null for no transform
+     */
+    void setTransform(@Nullable ResourceLocation transform) {
+      this.transform = transform;
+      this.hasTransform = true;
+    }
+  }
+
   /** Once removed client class */
   private static class HandleClient {
     private static void handle(CauldronStateUpdatePacket packet) {
-      TileEntityHelper.getTile(CauldronTileEntity.class, Minecraft.getInstance().world, packet.pos, true).ifPresent(te -> {
-        if (te.updateStateAndData(packet.contents, packet.levelOffset)) {
-          Util.notifyClientUpdate(te);
-        }
-      });
+      World world = Minecraft.getInstance().world;
+      if (world == null) {
+        return;
+      }
+      for (Entry entry : packet.entries) {
+        TileEntityHelper.getTile(CauldronTileEntity.class, world, unpackPos(packet.chunk, entry.packedPos), true).ifPresent(te -> {
+          if (entry.hasState && te.updateStateAndData(entry.contents, entry.levelOffset)) {
+            Util.notifyClientUpdate(te);
+          }
+          if (entry.hasTransform) {
+            ICauldronTransform recipe = entry.transform == null ? null : RecipeHelper.getRecipe(world.getRecipeManager(), entry.transform, ICauldronTransform.class).orElse(null);
+            te.setTransformRecipe(recipe);
+          }
+        });
+      }
     }
   }
 }
@@ -0,0 +1,124 @@
+package knightminer.inspirations.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
+import knightminer.inspirations.Inspirations;
+import knightminer.inspirations.common.network.CauldronStateUpdatePacket.Entry;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronTransform;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.ServerTickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedInEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects cauldron changes during a server tick, sending a single {@link CauldronStateUpdatePacket} per chunk at the end of the tick
+ */
+@EventBusSubscriber(modid = Inspirations.modID, bus = Bus.FORGE)
+public class CauldronUpdateQueue {
+  /** Pending updates by world, then chunk, then position within the chunk */
+  private static final Map<ServerWorld,Long2ObjectMap<Short2ObjectMap<Entry>>> PENDING = new HashMap<>();
+
+  private CauldronUpdateQueue() {}
+
+  /**
+   * Gets the pending update for the given position
+   * @param world  World, returns null if not a server world
+   * @param pos    Cauldron position
+   * @return  Pending update
+   */
+  @Nullable
+  private static Entry getEntry(@Nullable World world, BlockPos pos) {
+    if (!(world instanceof ServerWorld)) {
+      return null;
+    }
+    Long2ObjectMap<Short2ObjectMap<Entry>> chunks = PENDING.computeIfAbsent((ServerWorld)world, w -> new Long2ObjectOpenHashMap<>());
+    long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+    Short2ObjectMap<Entry> entries = chunks.get(chunkKey);
+    if (entries == null) {
+      entries = new Short2ObjectOpenHashMap<>();
+      chunks.put(chunkKey, entries);
+    }
+    short packed = CauldronStateUpdatePacket.packPos(pos);
+    Entry entry = entries.get(packed);
+    if (entry == null) {
+      entry = new Entry(packed);
+      entries.put(packed, entry);
+    }
+    return entry;
+  }
+
+  /**
+   * Queues a change to cauldron contents or level offset
+   * @param world        World, does nothing if not a server world
+   * @param pos          Cauldron position
+   * @param contents     New contents, null for no change
+   * @param levelOffset  New level offset
+   */
+  public static void queueState(@Nullable World world, BlockPos pos, @Nullable ICauldronContents contents, int levelOffset) {
+    Entry entry = getEntry(world, pos);
+    if (entry != null) {
+      entry.setState(contents, levelOffset);
+    }
+  }
+
+  /**
+   * Queues a change to the cauldron transform recipe
+   * @param world      World, does nothing if not a server world
+   * @param pos        Cauldron position
+   * @param transform  New transform, null for no transform
+   */
+  public static void queueTransform(@Nullable World world, BlockPos pos, @Nullable ICauldronTransform transform) {
+    Entry entry = getEntry(world, pos);
+    if (entry != null) {
+      entry.setTransform(transform == null ? null : transform.getId());
+    }
+  }
+
+  /** Sends all pending updates */
+  @SubscribeEvent
+  public static void serverTick(ServerTickEvent event) {
+    if (event.phase != Phase.END || PENDING.isEmpty()) {
+      return;
+    }
+    for (Map.Entry<ServerWorld,Long2ObjectMap<Short2ObjectMap<Entry>>> worldEntry : PENDING.entrySet()) {
+      ServerWorld world = worldEntry.getKey();
+      for (Long2ObjectMap.Entry<Short2ObjectMap<Entry>> chunkEntry : worldEntry.getValue().long2ObjectEntrySet()) {
+        ChunkPos chunk = new ChunkPos(chunkEntry.getLongKey());
+        InspirationsNetwork.sendToClients(world, chunk.asBlockPos(), new CauldronStateUpdatePacket(chunk, new ArrayList<>(chunkEntry.getValue().values())));
+      }
+    }
+    PENDING.clear();
+  }
+
+  /** Syncs content type IDs used by the update packets */
+  @SubscribeEvent
+  public static void playerLogin(PlayerLoggedInEvent event) {
+    if (event.getPlayer() instanceof ServerPlayerEntity) {
+      InspirationsNetwork.sendTo(new CauldronContentTypesPacket(), (ServerPlayerEntity)event.getPlayer());
+    }
+  }
+
+  /** Drops updates for unloaded worlds */
+  @SubscribeEvent
+  public static void worldUnload(WorldEvent.Unload event) {
+    if (event.getWorld() instanceof ServerWorld) {
+      PENDING.remove(event.getWorld());
+    }
+  }
+}
@@ -28,7 +28,7 @@ public class InspirationsNetwork extends NetworkWrapper {
     registerPacket(InventorySlotSyncPacket.class, InventorySlotSyncPacket::new, NetworkDirection.PLAY_TO_CLIENT);
     registerPacket(MilkablePacket.class, MilkablePacket::new, NetworkDirection.PLAY_TO_CLIENT);
     registerPacket(CauldronStateUpdatePacket.class, CauldronStateUpdatePacket::new, NetworkDirection.PLAY_TO_CLIENT);
-    registerPacket(CauldronTransformUpatePacket.class, CauldronTransformUpatePacket::new, NetworkDirection.PLAY_TO_CLIENT);
+    registerPacket(CauldronContentTypesPacket.class, CauldronContentTypesPacket::new, NetworkDirection.PLAY_TO_CLIENT);
   }
 
   /**
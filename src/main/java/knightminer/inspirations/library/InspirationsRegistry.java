@@ -1,5 +1,7 @@
 package knightminer.inspirations.library;
 
+import it.unimi.dsi.fastutil.objects.Reference2FloatMap;
+import it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap;
 import knightminer.inspirations.Inspirations;
 import knightminer.inspirations.common.Config;
 import net.minecraft.block.Block;
@@ -7,13 +9,13 @@ import net.minecraft.block.Blocks;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.common.ToolType;
+import net.minecraftforge.registries.ForgeRegistries;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 // This is an API.
@@ -25,8 +27,13 @@ public class InspirationsRegistry {
   /*
    * Books
    */
-  private static final Map<Item,Float> bookCache = new HashMap<>();
+  /** Return value from the book power table for items not in the table */
+  private static final float UNKNOWN_POWER = Float.NaN;
+  /** Book power for every registered item, replaced as a whole on rebuild so reads never need locking */
+  @Nullable
+  private static volatile Reference2FloatMap<Item> bookPowers = null;
   private static List<String> bookKeywords = new ArrayList<>();
+  private static volatile int bookVersion = 0;
 
   /**
    * Checks if the given item stack is a book
@@ -46,7 +53,16 @@ public class InspirationsRegistry {
     if (book.isEmpty()) {
       return 0;
     }
-    return bookCache.computeIfAbsent(book.getItem(), InspirationsRegistry::bookPower);
+    Item item = book.getItem();
+    Reference2FloatMap<Item> powers = bookPowers;
+    // table is built on config load, only items registered later need computing
+    if (powers != null) {
+      float power = powers.getFloat(item);
+      if (!Float.isNaN(power)) {
+        return power;
+      }
+    }
+    return bookPower(item);
   }
 
   /**
@@ -54,7 +70,7 @@ public class InspirationsRegistry {
    * @param item The item.
    * @return The enchantment power, or -1F.
    */
-  private static Float bookPower(Item item) {
+  private static float bookPower(Item item) {
     if (item.isIn(InspirationsTags.Items.BOOKS)) {
       return Config.defaultEnchantingPower.get().floatValue();
     }
@@ -65,16 +81,38 @@ public class InspirationsRegistry {
     }
 
     // look through every keyword from the config
+    String path = Objects.requireNonNull(item.getRegistryName()).getPath();
+    String translationKey = item.getTranslationKey();
     for (String keyword : bookKeywords) {
       // if the unlocalized name or the registry name has the keyword, its a book
-      if (Objects.requireNonNull(item.getRegistryName()).getPath().contains(keyword)
-          || item.getTranslationKey().contains(keyword)) {
+      if (path.contains(keyword) || translationKey.contains(keyword)) {
         return Config.defaultEnchantingPower.get().floatValue();
       }
     }
     return -1f;
   }
 
+  /**
+   * Classifies every registered item and swaps in the new book power table. Called when keywords or tags change
+   */
+  public static void rebuildBookPowers() {
+    Reference2FloatMap<Item> powers = new Reference2FloatOpenHashMap<>(ForgeRegistries.ITEMS.getKeys().size());
+    powers.defaultReturnValue(UNKNOWN_POWER);
+    for (Item item : ForgeRegistries.ITEMS) {
+      powers.put(item, bookPower(item));
+    }
+    bookPowers = powers;
+    bookVersion++;
+  }
+
+  /**
+   * Gets a counter that changes whenever book enchanting powers may have changed, for use in caching book powers
+   * @return  Book power version
+   */
+  public static int getBookVersion() {
+    return bookVersion;
+  }
+
   /**
    * Internal function used to allow the config to set the list of book keywords. Should not need to be called outside of Inspirations.
    * TODO: move to JSON
@@ -82,7 +120,6 @@ public class InspirationsRegistry {
    */
   public static void setBookKeywords(List<String> keywords) {
     bookKeywords = keywords;
-    // Clear the cache.
-    bookCache.clear();
+    rebuildBookPowers();
   }
 }
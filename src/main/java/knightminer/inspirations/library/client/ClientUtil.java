@@ -1,7 +1,6 @@
 package knightminer.inspirations.library.client;
 
 import knightminer.inspirations.Inspirations;
-import knightminer.inspirations.library.InspirationsRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BufferBuilder;
@@ -21,16 +20,15 @@ import net.minecraft.world.IBlockDisplayReader;
 import net.minecraftforge.client.model.data.EmptyModelData;
 import net.minecraftforge.resource.ISelectiveResourceReloadListener;
 import net.minecraftforge.resource.VanillaResourceType;
-import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.lang3.text.WordUtils;
 import org.lwjgl.opengl.GL11;
 
 import javax.annotation.Nullable;
-import java.awt.Color;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @SuppressWarnings("WeakerAccess")
 public final class ClientUtil {
@@ -38,65 +36,54 @@ public final class ClientUtil {
 
   private ClientUtil() { }
 
-  private static final Map<Item,Integer> COLOR_CACHE = new HashMap<>();
+  /** Colors for each item, accessed from chunk render threads */
+  private static final Map<Item,Integer> COLOR_CACHE = new ConcurrentHashMap<>();
 
   /**
    * Gets the color for an Item
    * @param item The item to check
-   * @return Color for the stack
+   * @return Color for the stack, or -1 if the color is still being computed
    */
   public static int getItemColor(Item item) {
-    return COLOR_CACHE.computeIfAbsent(item, ClientUtil::getItemColorRaw);
+    return getItemColor(item, null);
   }
 
   /**
-   * Gets the color for an item stack, used internally by colorCache. Licensed under http://www.apache.org/licenses/LICENSE-2.0
-   * @param key Item meta cache combination
-   * @return Color for the item meta combination
-   * @author InsomniaKitten
+   * Gets the color for an Item. Colors not in the cache are computed in the background, returning -1 until ready
+   * @param item The item to check
+   * @param pos  Block to rerender once the color is ready, null to skip
+   * @return Color for the stack, or -1 if the color is still being computed
    */
-  private static Integer getItemColorRaw(Item key) {
-    IBakedModel model = mc.getItemRenderer().getItemModelWithOverrides(new ItemStack(key), null, null);
-    if (model == mc.getModelManager().getMissingModel()) {
-      return -1;
+  public static int getItemColor(Item item, @Nullable BlockPos pos) {
+    Integer color = COLOR_CACHE.get(item);
+    if (color != null) {
+      return color;
     }
-    TextureAtlasSprite sprite = model.getParticleTexture(EmptyModelData.INSTANCE);
+    TextureAtlasSprite sprite = getItemSprite(item);
     if (sprite == null) {
+      COLOR_CACHE.put(item, -1);
       return -1;
     }
-    float r = 0, g = 0, b = 0, count = 0;
-    float[] hsb = new float[3];
-    try {
-      for (int x = 0; x < sprite.getWidth(); x++) {
-        for (int y = 0; y < sprite.getHeight(); y++) {
-          int argb = sprite.getPixelRGBA(0, x, y);
-          // integer is in format of 0xAABBGGRR
-          int cr = argb & 0xFF;
-          int cg = argb >> 8 & 0xFF;
-          int cb = argb >> 16 & 0xFF;
-          int ca = argb >> 24 & 0xFF;
-          if (ca > 0x7F && NumberUtils.max(cr, cg, cb) > 0x1F) {
-            Color.RGBtoHSB(ca, cr, cg, hsb);
-            float weight = hsb[1];
-            r += cr * weight;
-            g += cg * weight;
-            b += cb * weight;
-            count += weight;
-          }
-        }
-      }
-    } catch (Exception e) {
-      // there is a random bug where models do not properly load, leading to a null frame data
-      // so just catch that and treat it as another error state
-      InspirationsRegistry.log.error("Caught exception reading sprite for " + key.getRegistryName(), e);
+    color = SpriteColorCache.getColor(sprite.getName(), pos);
+    if (color == null) {
       return -1;
     }
-    if (count > 0) {
-      r /= count;
-      g /= count;
-      b /= count;
+    COLOR_CACHE.put(item, color);
+    return color;
+  }
+
+  /**
+   * Gets the particle sprite for an item, used to find the item color
+   * @param item Item to check
+   * @return Particle sprite, or null if the item has no model
+   */
+  @Nullable
+  private static TextureAtlasSprite getItemSprite(Item item) {
+    IBakedModel model = mc.getItemRenderer().getItemModelWithOverrides(new ItemStack(item), null, null);
+    if (model == mc.getModelManager().getMissingModel()) {
+      return null;
     }
-    return 0xFF000000 | (int)r << 16 | (int)g << 8 | (int)b;
+    return model.getParticleTexture(EmptyModelData.INSTANCE);
   }
 
   /**
@@ -202,6 +189,7 @@ public final class ClientUtil {
   public static final ISelectiveResourceReloadListener RELOAD_LISTENER = (manager, predicate) -> {
     if (predicate.test(VanillaResourceType.MODELS) || predicate.test(VanillaResourceType.TEXTURES)) {
       COLOR_CACHE.clear();
+      SpriteColorCache.reload();
     }
   };
 }
@@ -21,6 +21,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -157,4 +158,12 @@ public class CustomTextureLoader implements IEarlySelectiveReloadListener {
     // fallback to the passed texture, used for fluid textures which return directly instead of going though this listener
     return textures.getOrDefault(location, location);
   }
+
+  /**
+   * Gets all textures loaded from the pack
+   * @return  Collection of texture paths
+   */
+  public Collection<ResourceLocation> getTextures() {
+    return Collections.unmodifiableCollection(textures.values());
+  }
 }
@@ -0,0 +1,307 @@
+package knightminer.inspirations.library.client;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import knightminer.inspirations.Inspirations;
+import knightminer.inspirations.library.InspirationsRegistry;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.NativeImage;
+import net.minecraft.resources.IResource;
+import net.minecraft.resources.ResourcePackInfo;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.FMLPaths;
+import net.minecraftforge.fml.loading.moddiscovery.ModFileInfo;
+import net.minecraftforge.forgespi.language.IModInfo;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import javax.annotation.Nullable;
+import java.awt.Color;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Average colors of sprite textures, computed on a background thread and persisted between launches.
+ * Entries are only reused while the resource packs and mod files match the ones they were computed with.
+ */
+final class SpriteColorCache {
+  private SpriteColorCache() {}
+
+  /** Cache file format version, bump if the format or color logic changes */
+  private static final int VERSION = 1;
+  /** Cache file location */
+  private static final Path CACHE_FILE = FMLPaths.GAMEDIR.get().resolve(Inspirations.modID + "_color_cache.bin");
+
+  /** Background thread for computing colors and writing the cache */
+  private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "Inspirations sprite colors");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /** Colors for each sprite name */
+  private static final Map<String,Integer> COLORS = new ConcurrentHashMap<>();
+  /** Positions to rerender once a sprite color is ready, also marks sprites already queued */
+  private static final Map<String,Set<BlockPos>> PENDING = new ConcurrentHashMap<>();
+  /** Number of queued tasks, cache is written when it reaches 0 */
+  private static final AtomicInteger QUEUED = new AtomicInteger();
+  /** Changes on resource reload, results from older generations are discarded */
+  private static volatile int generation = 0;
+  /** Resource pack fingerprint for the current colors */
+  private static volatile long fingerprint = 0;
+  /** If true, colors were computed since the cache was last written */
+  private static volatile boolean dirty = false;
+
+  /**
+   * Gets the color for the given sprite, queuing it for computing if missing
+   * @param sprite  Sprite name
+   * @param pos     Position to rerender once the color is ready, null to skip
+   * @return  Sprite color, or null if not yet computed
+   */
+  @Nullable
+  static Integer getColor(ResourceLocation sprite, @Nullable BlockPos pos) {
+    String name = sprite.toString();
+    Integer color = COLORS.get(name);
+    if (color != null) {
+      return color;
+    }
+
+    // queue the sprite if not already queued
+    boolean[] queued = {false};
+    Set<BlockPos> waiting = PENDING.computeIfAbsent(name, n -> {
+      queued[0] = true;
+      return ConcurrentHashMap.newKeySet();
+    });
+    if (pos != null) {
+      waiting.add(pos.toImmutable());
+    }
+    if (queued[0]) {
+      int gen = generation;
+      QUEUED.incrementAndGet();
+      EXECUTOR.execute(() -> compute(name, sprite, gen));
+    }
+    return null;
+  }
+
+  /**
+   * Computes the color for a sprite, run on the background thread
+   * @param name    Sprite name
+   * @param sprite  Sprite location
+   * @param gen     Generation when the sprite was queued
+   */
+  private static void compute(String name, ResourceLocation sprite, int gen) {
+    try {
+      if (gen != generation) {
+        return;
+      }
+      int color = computeColor(sprite);
+      // resources reloaded while computing, color may be outdated
+      if (gen != generation) {
+        return;
+      }
+      COLORS.put(name, color);
+      dirty = true;
+      Set<BlockPos> waiting = PENDING.remove(name);
+      if (waiting != null && !waiting.isEmpty()) {
+        Minecraft mc = Minecraft.getInstance();
+        mc.execute(() -> {
+          if (mc.worldRenderer != null) {
+            for (BlockPos pos : waiting) {
+              mc.worldRenderer.notifyBlockUpdate(null, pos, null, null, 8);
+            }
+          }
+        });
+      }
+    } finally {
+      if (QUEUED.decrementAndGet() == 0 && dirty) {
+        save();
+      }
+    }
+  }
+
+  /**
+   * Computes the average color of a sprite texture. Licensed under http://www.apache.org/licenses/LICENSE-2.0
+   * @param sprite  Sprite location
+   * @return  Sprite color, or -1 if the texture could not be read
+   * @author InsomniaKitten
+   */
+  private static int computeColor(ResourceLocation sprite) {
+    ResourceLocation location = new ResourceLocation(sprite.getNamespace(), "textures/" + sprite.getPath() + ".png");
+    // read the texture instead of the atlas, atlas images are freed on reload
+    try (IResource resource = Minecraft.getInstance().getResourceManager().getResource(location);
+         NativeImage image = NativeImage.read(resource.getInputStream())) {
+      // animated textures are vertical strips, only use the first frame
+      int width = image.getWidth();
+      int height = Math.min(image.getHeight(), width);
+      float r = 0, g = 0, b = 0, count = 0;
+      float[] hsb = new float[3];
+      for (int x = 0; x < width; x++) {
+        for (int y = 0; y < height; y++) {
+          int argb = image.getPixelRGBA(x, y);
+          // integer is in format of 0xAABBGGRR
+          int cr = argb & 0xFF;
+          int cg = argb >> 8 & 0xFF;
+          int cb = argb >> 16 & 0xFF;
+          int ca = argb >> 24 & 0xFF;
+          if (ca > 0x7F && NumberUtils.max(cr, cg, cb) > 0x1F) {
+            Color.RGBtoHSB(ca, cr, cg, hsb);
+            float weight = hsb[1];
+            r += cr * weight;
+            g += cg * weight;
+            b += cb * weight;
+            count += weight;
+          }
+        }
+      }
+      if (count > 0) {
+        r /= count;
+        g /= count;
+        b /= count;
+      }
+      return 0xFF000000 | (int)r << 16 | (int)g << 8 | (int)b;
+    } catch (Exception e) {
+      InspirationsRegistry.log.error("Caught exception reading texture for sprite " + sprite, e);
+      return -1;
+    }
+  }
+
+
+  /* Persistence */
+
+  /**
+   * Clears all colors and loads the cache file if it matches the current resource packs. Called on resource reload
+   */
+  static void reload() {
+    generation++;
+    COLORS.clear();
+    PENDING.clear();
+    fingerprint = computeFingerprint();
+    dirty = false;
+    load();
+  }
+
+  /**
+   * Computes a fingerprint for the enabled resource packs and loaded mods, including the size and modified time of their files
+   * @return  Fingerprint
+   */
+  private static long computeFingerprint() {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    hasher.putInt(VERSION);
+    Path resourcePacks = Minecraft.getInstance().getFileResourcePacks().toPath();
+    for (ResourcePackInfo pack : Minecraft.getInstance().getResourcePackList().getEnabledPacks()) {
+      String name = pack.getName();
+      hasher.putString(name, StandardCharsets.UTF_8);
+      // packs from the resource pack folder are named file/<file name>, mod and builtin packs are covered by the mod files
+      if (name.startsWith("file/")) {
+        putFileStamp(hasher, resourcePacks.resolve(name.substring(5)));
+      }
+    }
+    for (IModInfo mod : ModList.get().getMods()) {
+      hasher.putString(mod.getModId(), StandardCharsets.UTF_8);
+      hasher.putString(mod.getVersion().toString(), StandardCharsets.UTF_8);
+    }
+    for (ModFileInfo file : ModList.get().getModFiles()) {
+      putFileStamp(hasher, file.getFile().getFilePath());
+    }
+    return hasher.hash().asLong();
+  }
+
+  /**
+   * Adds the size and modified time of a file to the fingerprint, or of every file within a folder
+   * @param hasher  Fingerprint hasher
+   * @param path    File or folder
+   */
+  private static void putFileStamp(Hasher hasher, Path path) {
+    try {
+      List<Path> files;
+      if (Files.isDirectory(path)) {
+        try (Stream<Path> stream = Files.walk(path)) {
+          files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+      } else if (Files.exists(path)) {
+        files = Collections.singletonList(path);
+      } else {
+        return;
+      }
+      for (Path file : files) {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        hasher.putString(path.relativize(file).toString(), StandardCharsets.UTF_8);
+        hasher.putLong(attributes.size());
+        hasher.putLong(attributes.lastModifiedTime().toMillis());
+      }
+    } catch (IOException e) {
+      // unknown contents, so never match a saved cache
+      InspirationsRegistry.log.warn("Failed to read " + path + " for the sprite color cache, colors will be recomputed", e);
+      hasher.putLong(System.nanoTime());
+    }
+  }
+
+  /** Loads the cache file, ignoring it if the fingerprint does not match */
+  private static void load() {
+    try (InputStream stream = Files.newInputStream(CACHE_FILE);
+         DataInputStream input = new DataInputStream(stream)) {
+      if (input.readInt() != VERSION || input.readLong() != fingerprint) {
+        return;
+      }
+      int size = input.readInt();
+      Map<String,Integer> loaded = new HashMap<>(size);
+      for (int i = 0; i < size; i++) {
+        loaded.put(input.readUTF(), input.readInt());
+      }
+      COLORS.putAll(loaded);
+    } catch (NoSuchFileException e) {
+      // nothing cached yet
+    } catch (IOException e) {
+      InspirationsRegistry.log.warn("Failed to read sprite color cache, colors will be recomputed", e);
+    }
+  }
+
+  /** Writes the cache file, run on the background thread */
+  private static void save() {
+    dirty = false;
+    int gen = generation;
+    long print = fingerprint;
+    Map<String,Integer> colors = new HashMap<>(COLORS);
+    // resources reloaded while copying, the new colors will be saved later
+    if (gen != generation) {
+      return;
+    }
+    Path temp = CACHE_FILE.resolveSibling(CACHE_FILE.getFileName() + ".tmp");
+    try {
+      try (OutputStream stream = Files.newOutputStream(temp);
+           DataOutputStream output = new DataOutputStream(stream)) {
+        output.writeInt(VERSION);
+        output.writeLong(print);
+        output.writeInt(colors.size());
+        for (Map.Entry<String,Integer> entry : colors.entrySet()) {
+          output.writeUTF(entry.getKey());
+          output.writeInt(entry.getValue());
+        }
+      }
+      Files.move(temp, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      InspirationsRegistry.log.warn("Failed to write sprite color cache", e);
+    }
+  }
+}
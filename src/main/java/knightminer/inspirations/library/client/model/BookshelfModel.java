@@ -1,7 +1,5 @@
 package knightminer.inspirations.library.client.model;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.gson.JsonArray;
@@ -9,7 +7,6 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.mojang.datafixers.util.Pair;
-import knightminer.inspirations.Inspirations;
 import knightminer.inspirations.building.tileentity.BookshelfTileEntity;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -44,14 +41,14 @@ import slimeknights.mantle.item.RetexturedBlockItem;
 import slimeknights.mantle.util.RetexturedHelper;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 /**
@@ -124,12 +121,15 @@ public class BookshelfModel implements IModelGeometry<BookshelfModel> {
     private final List<List<BlockPart>> books;
     /* Cached baked model */
     private IBakedModel baked;
+    /* Shelf body followed by each book, baked separately so any set of books can be combined without baking */
+    private final AtomicReferenceArray<IBakedModel> parts;
 
     private ShelfModel(IModelConfiguration owner, SimpleBlockModel model, IModelTransform transform, List<List<BlockPart>> books) {
       this.owner = owner;
       this.model = model;
       this.transform = transform;
       this.books = books;
+      this.parts = new AtomicReferenceArray<>(books.size() + 1);
     }
 
     /**
@@ -170,19 +170,41 @@ public class BookshelfModel implements IModelGeometry<BookshelfModel> {
     }
 
     /**
-     * Gets a baked shelf using the given books list
-     * @param modelBooks  Books to get
-     * @return Shelf with the requested books
+     * Gets a baked part of the shelf, baking it if missing
+     * @param index  0 for the shelf body, or the book index plus 1
+     * @return  Baked part
      */
-    public IBakedModel bakeWithBooks(int modelBooks) {
-      List<BlockPart> elements = Lists.newArrayList(model.getElements());
+    private IBakedModel getPart(int index) {
+      IBakedModel part = parts.get(index);
+      if (part == null) {
+        // two threads may bake the same part, but both results are identical
+        part = SimpleBlockModel.bakeDynamic(owner, index == 0 ? model.getElements() : books.get(index - 1), transform);
+        parts.set(index, part);
+      }
+      return part;
+    }
+
+    /**
+     * Gets the quads for a shelf with the given books, combining the baked shelf and book parts
+     * @param modelBooks  Bitmask of books to include
+     * @param state       Block state
+     * @param direction   Cull face direction
+     * @param random      Random instance
+     * @param data        Model data
+     * @return  Quads for the shelf with the requested books
+     */
+    public List<BakedQuad> getQuads(int modelBooks, @Nullable BlockState state, @Nullable Direction direction, Random random, IModelData data) {
+      List<BakedQuad> shelf = getPart(0).getQuads(state, direction, random, data);
+      if (modelBooks == 0) {
+        return shelf;
+      }
+      List<BakedQuad> quads = new ArrayList<>(shelf);
       for (int i = 0; i < books.size(); i++) {
-        int flag = 1 << i;
-        if ((modelBooks & flag) == flag) {
-          elements.addAll(books.get(i));
+        if ((modelBooks & (1 << i)) != 0) {
+          quads.addAll(getPart(i + 1).getQuads(state, direction, random, data));
         }
       }
-      return SimpleBlockModel.bakeDynamic(owner, elements, transform);
+      return quads;
     }
   }
 
@@ -190,10 +212,8 @@ public class BookshelfModel implements IModelGeometry<BookshelfModel> {
    * Baked shelf model instance
    */
   public static class BakedModel extends DynamicBakedWrapper<IBakedModel> {
-    /** Cache of texture to shelf model, used for items and to make crafting the shelf with books faster */
-    private final Map<ResourceLocation,ShelfModel> texturedCache = new HashMap<>();
-    /** Cache of shelf with books and texture, limited size */
-    private final Cache<BookshelfCacheKey,IBakedModel> bookshelfCache = CacheBuilder.newBuilder().maximumSize(30).build();
+    /** Cache of texture to shelf model, each shelf holds baked parts that are combined for any set of books */
+    private final Map<ResourceLocation,ShelfModel> texturedCache = new ConcurrentHashMap<>();
 
     /** Unbaked model */
     private final ShelfModel model;
@@ -264,16 +284,8 @@ public class BookshelfModel implements IModelGeometry<BookshelfModel> {
         books = 0;
       }
 
-      // fetch combo from cache, compute if needed
-      IBakedModel finalModel;
-      try {
-        BookshelfCacheKey key = new BookshelfCacheKey(texture, books);
-        finalModel = bookshelfCache.get(key, () -> getTexturedShelf(key.texture).bakeWithBooks(key.books));
-      } catch (ExecutionException e) {
-        Inspirations.log.error(e);
-        finalModel = originalModel;
-      }
-      return finalModel.getQuads(state, direction, random, data);
+      // combine the shelf and book quads
+      return getTexturedShelf(texture).getQuads(books, state, direction, random, data);
     }
 
     @Override
@@ -301,34 +313,4 @@ public class BookshelfModel implements IModelGeometry<BookshelfModel> {
       return ((BakedModel)originalModel).getTexturedShelf(block).getBaked();
     }
   }
-
-  /** Key for bookshelf model cache, there is one cache per shelf model orientation */
-  private static class BookshelfCacheKey {
-    @Nullable
-    protected ResourceLocation texture;
-    protected int books;
-
-    BookshelfCacheKey(@Nullable ResourceLocation texture, int books) {
-      this.texture = texture;
-      this.books = books;
-    }
-
-    @Override
-    public boolean equals(Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-
-      BookshelfCacheKey that = (BookshelfCacheKey)o;
-      return this.books == that.books && Objects.equals(this.texture, that.texture);
-    }
-
-    @Override
-    public int hashCode() {
-      return (texture == null ? 0 : 31 * texture.hashCode()) + books;
-    }
-  }
 }
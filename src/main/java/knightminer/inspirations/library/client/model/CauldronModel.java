@@ -1,5 +1,7 @@
 package knightminer.inspirations.library.client.model;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.util.Pair;
@@ -38,12 +40,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 
 /**
@@ -143,51 +145,107 @@ public class CauldronModel implements IModelGeometry<CauldronModel> {
     return new TexturedBakedModel(baked, owner, warmElements, frostElements, liquidElements, modelTransform, retextured);
   }
 
+  /**
+   * Bakes fluid models for the given textures ahead of time, so the first cauldron rendered does not stall on baking
+   * @param model     Baked model, does nothing if not a cauldron model with fluid
+   * @param textures  Fluid texture paths to bake
+   */
+  public static void warmup(@Nullable IBakedModel model, Collection<ResourceLocation> textures) {
+    if (model instanceof TexturedBakedModel) {
+      ((TexturedBakedModel)model).warmup(textures);
+    }
+  }
+
   /** Full baked model, does frost and fluid textures */
   private static class TexturedBakedModel extends DynamicBakedWrapper<IBakedModel> {
-    private final Map<TextureOffsetPair,IBakedModel> warmCache = new HashMap<>();
-    private final Map<TextureOffsetPair,IBakedModel> frostedCache = new HashMap<>();
+    /** Number of level offsets, from -3 to 3 */
+    private static final int OFFSETS = 7;
+    /** Maximum number of fluid textures to keep baked models for */
+    private static final int MAX_TEXTURES = 64;
+
+    /** Baked models for each texture, indexed by offset and frost, see {@link #getIndex(int, boolean)} */
+    private final Cache<ResourceLocation,AtomicReferenceArray<IBakedModel>> cache = CacheBuilder.newBuilder().maximumSize(MAX_TEXTURES).build();
     // data needed to rebake
     private final IModelConfiguration owner;
     private final IModelTransform transform;
     private final Set<String> retextured;
+    private final List<BlockPart> warmElements;
+    private final List<BlockPart> frostElements;
     private final List<BlockPart> liquidElements;
-    /** Function to bake a warm model for the given texture */
-    private final Function<TextureOffsetPair, IBakedModel> warmBakery;
-    /** Function to bake a frosted model for the given texture */
-    private final Function<TextureOffsetPair, IBakedModel> frostedBakery;
     protected TexturedBakedModel(IBakedModel originalModel, IModelConfiguration owner, List<BlockPart> warmElements, List<BlockPart> frostElements, List<BlockPart> liquidElements, IModelTransform transform, Set<String> fluidNames) {
       super(originalModel);
       this.owner = owner;
       this.transform = transform;
       this.retextured = fluidNames;
+      this.warmElements = warmElements;
+      this.frostElements = frostElements;
       this.liquidElements = liquidElements;
-      this.warmBakery = name -> getFluidModel(name, warmElements);
-      this.frostedBakery = name -> getFluidModel(name, frostElements);
+    }
+
+    /**
+     * Gets the index of a model in the cache array
+     * @param offset   Liquid offset, from -3 to 3
+     * @param frosted  If true, gets the frosted model
+     * @return  Array index
+     */
+    private static int getIndex(int offset, boolean frosted) {
+      return (offset + 3) << 1 | (frosted ? 1 : 0);
     }
 
     /**
      * Bakes the baked model for the given fluid
-     * @param pair  Object containing texture and offset amount
+     * @param texture       Fluid texture
+     * @param offset        Liquid offset amount
+     * @param baseElements  Warm or frosted elements
      * @return  Baked model
      */
-    private IBakedModel getFluidModel(TextureOffsetPair pair, List<BlockPart> baseElements) {
+    private IBakedModel getFluidModel(ResourceLocation texture, int offset, List<BlockPart> baseElements) {
       // if we have liquid elements, add them
       List<BlockPart> elements = new ArrayList<>(baseElements);
       // if no offset, copy in liquid list exactly
-      if (pair.offset == 0) {
+      if (offset == 0) {
         elements.addAll(liquidElements);
       } else {
         // offset each element. Note -3 is moved up slightly to prevent z-fighting, its only used when the cauldron is level 1
-        float offset = MathHelper.clamp(pair.offset, -2.95f, 3f);
+        float partOffset = MathHelper.clamp(offset, -2.95f, 3f);
         liquidElements.stream().map(part -> {
           Vector3f newTo = part.positionTo.copy();
-          newTo.add(0, offset, 0);
+          newTo.add(0, partOffset, 0);
           return new BlockPart(part.positionFrom, newTo, part.mapFaces, part.partRotation, part.shade);
         }).forEach(elements::add);
       }
       // bake the new model
-      return SimpleBlockModel.bakeDynamic(new RetexturedConfiguration(owner, retextured, pair.location), elements, transform);
+      return SimpleBlockModel.bakeDynamic(new RetexturedConfiguration(owner, retextured, texture), elements, transform);
+    }
+
+    /**
+     * Gets the model for the given fluid, baking it if missing. Safe to call from multiple render threads
+     * @param texture  Fluid texture
+     * @param offset   Liquid offset, from -3 to 3
+     * @param frosted  If true, gets the frosted model
+     * @return  Baked model
+     */
+    private IBakedModel getModel(ResourceLocation texture, int offset, boolean frosted) {
+      AtomicReferenceArray<IBakedModel> models = cache.asMap().computeIfAbsent(texture, t -> new AtomicReferenceArray<>(OFFSETS * 2));
+      int index = getIndex(offset, frosted);
+      IBakedModel baked = models.get(index);
+      if (baked == null) {
+        // two threads may bake the same model, but both results are identical
+        baked = getFluidModel(texture, offset, frosted ? frostElements : warmElements);
+        models.set(index, baked);
+      }
+      return baked;
+    }
+
+    /**
+     * Bakes the models with no offset for each texture
+     * @param textures  Fluid textures
+     */
+    private void warmup(Collection<ResourceLocation> textures) {
+      for (ResourceLocation texture : textures) {
+        getModel(texture, 0, false);
+        getModel(texture, 0, true);
+      }
     }
 
     @Override
@@ -206,13 +264,9 @@ public class CauldronModel implements IModelGeometry<CauldronModel> {
         texture = RecipesClientEvents.cauldronTextures.getTexture(texture);
       }
 
-      // fetch liquid offset amount
+      // fetch liquid offset amount and determine model variant
       Integer offset = data.getData(CauldronTileEntity.OFFSET);
-      TextureOffsetPair pair = new TextureOffsetPair(texture, offset == null ? 0 : offset);
-      // determine model variant
-      IBakedModel baked = (data.getData(CauldronTileEntity.FROSTED) == Boolean.TRUE)
-                          ? frostedCache.computeIfAbsent(pair, frostedBakery)
-                          : warmCache.computeIfAbsent(pair, warmBakery);
+      IBakedModel baked = getModel(texture, offset == null ? 0 : MathHelper.clamp(offset, -3, 3), data.getData(CauldronTileEntity.FROSTED) == Boolean.TRUE);
       // return quads
       return baked.getQuads(state, direction, random, data);
     }
@@ -232,33 +286,6 @@ public class CauldronModel implements IModelGeometry<CauldronModel> {
     }
   }
 
-  /** Data class containing a resource location and an integer. Hashable */
-  private static class TextureOffsetPair {
-    private final ResourceLocation location;
-    private final int offset;
-    private TextureOffsetPair(ResourceLocation location, int offset) {
-      this.location = location;
-      this.offset = offset;
-    }
-
-    @Override
-    public int hashCode() {
-      return location.hashCode() + 31 * offset;
-    }
-
-    @Override
-    public boolean equals(Object other) {
-      if (this == other) {
-        return true;
-      }
-      if (!(other instanceof TextureOffsetPair)) {
-        return false;
-      }
-      TextureOffsetPair pair = (TextureOffsetPair) other;
-      return offset == pair.offset && location.equals(pair.location);
-    }
-  }
-
   /** Loader class */
   private static class Loader implements IModelLoader<CauldronModel> {
     private Loader() {}
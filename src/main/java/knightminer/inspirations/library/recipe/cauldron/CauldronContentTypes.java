@@ -5,6 +5,9 @@ import com.google.common.collect.HashBiMap;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.EncoderException;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import knightminer.inspirations.Inspirations;
 import knightminer.inspirations.library.recipe.cauldron.contents.CauldronContentType;
 import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
@@ -25,6 +28,9 @@ import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.common.util.Lazy;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
 
 /**
@@ -33,7 +39,20 @@ import java.util.function.BiFunction;
 public class CauldronContentTypes {
   private static final ResourceLocation UNREGISTERED = Inspirations.getResource("null");
   public static final String KEY_TYPE = "type";
+  /** NBT key for the format version, missing in the legacy format */
+  private static final String KEY_VERSION = "v";
+  /** Current NBT format version. Version 1 omits the Inspirations namespace from type names */
+  private static final byte NBT_VERSION = 1;
   private static final BiMap<ResourceLocation,CauldronContentType<?>> TYPES = HashBiMap.create();
+  /** Dense runtime IDs for each type, in registration order */
+  private static final List<CauldronContentType<?>> TYPE_IDS = new ArrayList<>();
+  private static final Reference2IntMap<CauldronContentType<?>> IDS_BY_TYPE = new Reference2IntOpenHashMap<>();
+  static {
+    IDS_BY_TYPE.defaultReturnValue(-1);
+  }
+  /** Types by the server ID, set from {@link knightminer.inspirations.common.network.CauldronContentTypesPacket}. Null uses local IDs */
+  @Nullable
+  private static volatile CauldronContentType<?>[] remoteTypes = null;
 
   /* Public constants */
 
@@ -41,7 +60,7 @@ public class CauldronContentTypes {
   public static final CauldronContentType<Fluid> FLUID = register("fluid", new FluidContentType());
 
   /** Contains an arbitrary color */
-  public static final CauldronContentType<Integer> COLOR = register("color", new ColorContentType());
+  public static final ColorContentType COLOR = register("color", new ColorContentType());
 
   /** Contains a specific color */
   public static final CauldronContentType<DyeColor> DYE = register("dye", new DyeContentType());
@@ -67,6 +86,8 @@ public class CauldronContentTypes {
       throw new IllegalArgumentException("Duplicate cauldron content type '" + name + "'");
     }
     TYPES.put(name, type);
+    IDS_BY_TYPE.put(type, TYPE_IDS.size());
+    TYPE_IDS.add(type);
   }
 
   /**
@@ -104,6 +125,50 @@ public class CauldronContentTypes {
     return name;
   }
 
+  /**
+   * Gets the names of all types, indexed by their runtime ID. Used to sync IDs to clients
+   * @return  Type names in ID order
+   */
+  public static List<ResourceLocation> getNamesById() {
+    List<ResourceLocation> names = new ArrayList<>(TYPE_IDS.size());
+    for (CauldronContentType<?> type : TYPE_IDS) {
+      names.add(getName(type));
+    }
+    return names;
+  }
+
+  /**
+   * Sets the type IDs used by the server. Types unknown to the client will fail to decode
+   * @param names  Type names in server ID order
+   */
+  public static void setRemoteIds(List<ResourceLocation> names) {
+    CauldronContentType<?>[] types = new CauldronContentType<?>[names.size()];
+    for (int i = 0; i < types.length; i++) {
+      types[i] = get(names.get(i));
+    }
+    remoteTypes = types;
+  }
+
+  /**
+   * Clears the type IDs set by the server, called when the client disconnects
+   */
+  public static void clearRemoteIds() {
+    remoteTypes = null;
+  }
+
+  /**
+   * Gets the name used for the type in NBT, omitting the namespace for Inspirations types
+   * @param type  Type
+   * @return  NBT name
+   */
+  private static String getNBTName(CauldronContentType<?> type) {
+    ResourceLocation name = getName(type);
+    if (Inspirations.modID.equals(name.getNamespace())) {
+      return name.getPath();
+    }
+    return name.toString();
+  }
+
   /**
    * Simple helper function to make the generics work out
    * @param type    Content type
@@ -140,7 +205,9 @@ public class CauldronContentTypes {
    */
   public static ICauldronContents read(CompoundNBT nbt) {
     if (nbt.contains(KEY_TYPE, NBT.TAG_STRING)) {
-      ResourceLocation location = new ResourceLocation(nbt.getString(KEY_TYPE));
+      // legacy format always has the full name, newer versions omit our namespace
+      String name = nbt.getString(KEY_TYPE);
+      ResourceLocation location = nbt.contains(KEY_VERSION, NBT.TAG_BYTE) && name.indexOf(':') < 0 ? Inspirations.getResource(name) : new ResourceLocation(name);
       CauldronContentType<?> type = get(location);
       if (type != null) {
         return read(type, nbt, CauldronContentType::read);
@@ -149,6 +216,30 @@ public class CauldronContentTypes {
     return CauldronContentTypes.DEFAULT.get();
   }
 
+  /**
+   * Writes the given contents to NBT in the compact versioned format, read using {@link #read(CompoundNBT)}
+   * @param contents  Contents to write
+   * @return  NBT contents
+   */
+  public static CompoundNBT toNBT(ICauldronContents contents) {
+    CompoundNBT nbt = new CompoundNBT();
+    nbt.putByte(KEY_VERSION, NBT_VERSION);
+    CauldronContentType<?> type = contents.getType();
+    nbt.putString(KEY_TYPE, getNBTName(type));
+    writeValue(type, contents, nbt);
+    return nbt;
+  }
+
+  /**
+   * Writes the value of the given contents to NBT
+   * @param type      Contents type
+   * @param contents  Contents instance
+   * @param nbt       NBT to write
+   */
+  private static <T> void writeValue(CauldronContentType<T> type, ICauldronContents contents, CompoundNBT nbt) {
+    type.write(Objects.requireNonNull(contents.getOrNull(type)), nbt);
+  }
+
   /**
    * Reads the given contents from NBT
    * @param buffer Buffer instance
@@ -163,4 +254,54 @@ public class CauldronContentTypes {
     }
     return read(type, buffer, CauldronContentType::read);
   }
+
+  /**
+   * Writes the given contents to the buffer using the runtime type ID, read using {@link #readCompact(PacketBuffer)}.
+   * Only valid for packets sent after the type IDs are synced to the client
+   * @param contents  Contents to write
+   * @param buffer    Buffer instance
+   * @throws  EncoderException  if the type is not registered
+   */
+  public static void writeCompact(ICauldronContents contents, PacketBuffer buffer) {
+    CauldronContentType<?> type = contents.getType();
+    int id = IDS_BY_TYPE.getInt(type);
+    if (id < 0) {
+      throw new EncoderException("Unregistered cauldron content type " + type);
+    }
+    buffer.writeVarInt(id);
+    writeValue(type, contents, buffer);
+  }
+
+  /**
+   * Writes the value of the given contents to the buffer
+   * @param type      Contents type
+   * @param contents  Contents instance
+   * @param buffer    Buffer instance
+   */
+  private static <T> void writeValue(CauldronContentType<T> type, ICauldronContents contents, PacketBuffer buffer) {
+    type.write(Objects.requireNonNull(contents.getOrNull(type)), buffer);
+  }
+
+  /**
+   * Reads contents written by {@link #writeCompact(ICauldronContents, PacketBuffer)}
+   * @param buffer  Buffer instance
+   * @return  Cauldron contents
+   * @throws  DecoderException  if the type ID is invalid
+   */
+  public static ICauldronContents readCompact(PacketBuffer buffer) {
+    int id = buffer.readVarInt();
+    CauldronContentType<?>[] types = remoteTypes;
+    CauldronContentType<?> type = null;
+    if (types != null) {
+      if (id >= 0 && id < types.length) {
+        type = types[id];
+      }
+    } else if (id >= 0 && id < TYPE_IDS.size()) {
+      type = TYPE_IDS.get(id);
+    }
+    if (type == null) {
+      throw new DecoderException("Invalid type ID " + id);
+    }
+    return read(type, buffer, CauldronContentType::read);
+  }
 }
@@ -1,5 +1,6 @@
 package knightminer.inspirations.library.recipe.cauldron.contents;
 
+import com.google.common.collect.MapMaker;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
@@ -15,10 +16,11 @@ import net.minecraft.util.text.ITextComponent;
 import slimeknights.mantle.util.JsonHelper;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 /**
@@ -29,16 +31,23 @@ public abstract class CauldronContentType<T> {
   /** Resource location meaning no texture exists. Basically a copy of {@link net.minecraft.client.renderer.texture.MissingTextureSprite#getLocation()} that is server safe */
   public static final ResourceLocation NO_TEXTURE = Inspirations.getResource("missingno");
 
-  private final Map<T, ICauldronContents> cache = new HashMap<>();
-  private final Map<ICauldronContents,T> valueOverrides = new HashMap<>();
+  /** Interned contents, held weakly so values no longer in any cauldron or recipe can be collected. Only saves memory, contents equality is by value */
+  private final ConcurrentMap<T, ICauldronContents> cache = new MapMaker().weakValues().makeMap();
+  /** Results registered through {@link #setResult(Object, ICauldronContents)}, never evicted */
+  private final Map<T, ICauldronContents> resultOverrides = new ConcurrentHashMap<>();
+  private final Map<ICauldronContents,T> valueOverrides = new ConcurrentHashMap<>();
   private final Function<T, ICauldronContents> constructor = val -> new CauldronContents<>(this, val);
 
   /**
-   * Gets a value of the given type
+   * Gets a value of the given type. Safe to call from any thread
    * @param value  Type of value
    * @return  Value to fetch
    */
   public ICauldronContents of(T value) {
+    ICauldronContents override = resultOverrides.get(value);
+    if (override != null) {
+      return override;
+    }
     return cache.computeIfAbsent(value, constructor);
   }
 
@@ -72,8 +81,9 @@ public abstract class CauldronContentType<T> {
       // add a value override if missing
       valueOverrides.put(instance, value);
     }
-    // just add it to the cache, so it will be fetched later
-    cache.put(value, instance);
+    // pin the result, so it is fetched instead of creating new contents
+    resultOverrides.put(value, instance);
+    cache.remove(value);
   }
 
   /**
@@ -82,7 +92,21 @@ public abstract class CauldronContentType<T> {
    * @return  Optional of override value, or empty if no override exists
    */
   public Optional<T> getOverrideValue(ICauldronContents instance) {
-    return Optional.ofNullable(valueOverrides.get(instance));
+    return Optional.ofNullable(getOverrideValueOrNull(instance));
+  }
+
+  /**
+   * Gets the overridden value for the given instance, without allocating an optional
+   * @param instance  Instance
+   * @return  Override value, or null if no override exists
+   */
+  @Nullable
+  public T getOverrideValueOrNull(ICauldronContents instance) {
+    // most types have no overrides, skip hashing the contents
+    if (valueOverrides.isEmpty()) {
+      return null;
+    }
+    return valueOverrides.get(instance);
   }
 
 
@@ -25,6 +25,17 @@ public interface ICauldronContents {
    */
   <T> Optional <T> get(CauldronContentType<T> type);
 
+  /**
+   * Gets this value as the given type, without allocating an optional. Prefer this over {@link #get(CauldronContentType)} in recipe matching
+   * @param type  Type to get
+   * @param <T>  Type of return
+   * @return  Value, or null if this does not have the given type
+   */
+  @Nullable
+  default <T> T getOrNull(CauldronContentType<T> type) {
+    return get(type).orElse(null);
+  }
+
   /**
    * Gets the main type of these contents, used for serializing
    * @return  Main content type
@@ -122,7 +133,7 @@ public interface ICauldronContents {
    * @return  True if get would return this value
    */
   default <T> boolean contains(CauldronContentType<T> type) {
-    return get(type).isPresent();
+    return getOrNull(type) != null;
   }
 
   /**
@@ -133,7 +144,7 @@ public interface ICauldronContents {
    * @return  True if get would return this value
    */
   default <T> boolean contains(CauldronContentType<T> type, T value) {
-    return get(type).map(value::equals).orElse(false);
+    return value.equals(getOrNull(type));
   }
 
   /**
@@ -50,9 +50,8 @@ public abstract class ContentMatchIngredient<T> implements ICauldronIngredient {
 
   @Override
   public boolean test(ICauldronContents contents) {
-    return contents.get(serializer.type)
-                   .map(this::testValue)
-                   .orElse(false);
+    T value = contents.getOrNull(serializer.type);
+    return value != null && testValue(value);
   }
 
   @Override
@@ -60,6 +59,14 @@ public abstract class ContentMatchIngredient<T> implements ICauldronIngredient {
     return serializer;
   }
 
+  /**
+   * Gets the content type matched by this ingredient. Contents not containing this type will never match
+   * @return  Content type
+   */
+  public CauldronContentType<T> getType() {
+    return serializer.type;
+  }
+
   /** Matches a single value */
   private static class Single<T> extends ContentMatchIngredient<T> {
     private final T value;
@@ -59,6 +59,22 @@ public abstract class AbstractCauldronRecipe implements ICauldronRecipeDisplay {
            && (currentLevel == 0 || ingredient.test(state.getContents()));
   }
 
+  /**
+   * Gets the ingredient used to match cauldron contents. Used for indexing recipe lookups
+   * @return  Contents ingredient
+   */
+  public ICauldronIngredient getContentIngredient() {
+    return ingredient;
+  }
+
+  /**
+   * Gets the predicate used to match the cauldron level. Used for indexing recipe lookups
+   * @return  Level predicate
+   */
+  public LevelPredicate getLevelPredicate() {
+    return level;
+  }
+
   @Override
   public List<ICauldronContents> getContentInputs() {
     return ingredient.getMatchingContents();
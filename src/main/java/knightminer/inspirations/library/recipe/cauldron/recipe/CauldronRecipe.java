@@ -20,8 +20,10 @@ import net.minecraft.util.JSONUtils;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.SoundEvents;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraftforge.common.crafting.CraftingHelper;
+import net.minecraftforge.items.ItemHandlerHelper;
 import net.minecraftforge.registries.ForgeRegistries;
 import slimeknights.mantle.recipe.SizedIngredient;
 
@@ -88,6 +90,14 @@ public class CauldronRecipe extends AbstractCauldronRecipe implements ICauldronR
     return (input == SizedIngredient.EMPTY || input.test(stack));
   }
 
+  /**
+   * Gets the item input for this recipe. Used for indexing recipe lookups
+   * @return  Item input, {@link SizedIngredient#EMPTY} if the recipe matches any item
+   */
+  public SizedIngredient getInput() {
+    return input;
+  }
+
   @Override
   public void handleRecipe(IModifyableCauldronInventory inventory) {
     // update level
@@ -126,6 +136,101 @@ public class CauldronRecipe extends AbstractCauldronRecipe implements ICauldronR
     inventory.playSound(sound);
   }
 
+  @Override
+  public int getMaxCrafts(ICauldronInventory inv) {
+    // recipes that do not consume items could match forever, so let the caller limit them
+    int needed = input.getAmountNeeded();
+    if (input == SizedIngredient.EMPTY || needed <= 0) {
+      return 1;
+    }
+    int maxCrafts = inv.getStack().getCount() / needed;
+
+    // simulate the level and contents after each craft, temperature will not change
+    int currentLevel = inv.getLevel();
+    ICauldronContents contents = inv.getContents();
+    int crafts = 0;
+    while (crafts < maxCrafts && level.test(currentLevel) && (currentLevel == 0 || ingredient.test(contents))) {
+      crafts++;
+      int newLevel = levelUpdate.applyAsInt(currentLevel);
+      if (newLevel != 0 && outputContents != null) {
+        contents = outputContents;
+      }
+      currentLevel = MathHelper.clamp(newLevel, 0, MAX);
+    }
+    return Math.max(crafts, 1);
+  }
+
+  @Override
+  public void handleRecipe(IModifyableCauldronInventory inventory, int crafts) {
+    if (crafts <= 1) {
+      if (crafts == 1) {
+        handleRecipe(inventory);
+      }
+      return;
+    }
+
+    // update level once for all crafts, contents change if any craft left the cauldron non-empty
+    int newLevel = inventory.getLevel();
+    boolean updateContents = false;
+    for (int i = 0; i < crafts; i++) {
+      int updated = levelUpdate.applyAsInt(newLevel);
+      updateContents |= updated != 0;
+      newLevel = MathHelper.clamp(updated, 0, MAX);
+    }
+    inventory.setLevel(newLevel);
+    if (updateContents && outputContents != null) {
+      inventory.setContents(outputContents);
+    }
+
+    // determine container item if passed container is null
+    ItemStack original = inventory.getStack();
+    CompoundNBT originalTag = original.getTag();
+    int needed = input.getAmountNeeded();
+    ItemStack container = this.container;
+    int containerCount;
+    if (container == null) {
+      container = original.getContainerItem();
+      containerCount = needed * crafts;
+    } else {
+      containerCount = container.getCount() * crafts;
+    }
+
+    // update hand item and container item
+    inventory.shrinkStack(needed * crafts);
+    setOrGiveStacks(inventory, container, containerCount);
+
+    // give output, copying NBT if asked
+    if (!output.isEmpty()) {
+      ItemStack output = this.output;
+      if (copyNBT && originalTag != null) {
+        output = output.copy();
+        output.setTag(originalTag.copy());
+      }
+      setOrGiveStacks(inventory, output, this.output.getCount() * crafts);
+    }
+
+    // play sound
+    inventory.playSound(sound);
+  }
+
+  /**
+   * Sets or gives copies of the given stack, split into stacks no larger than the max stack size
+   * @param inventory  Inventory receiving the stacks
+   * @param stack      Stack to copy
+   * @param count      Total number of items to give
+   */
+  private static void setOrGiveStacks(IModifyableCauldronInventory inventory, ItemStack stack, int count) {
+    if (stack.isEmpty()) {
+      return;
+    }
+    int maxSize = stack.getMaxStackSize();
+    while (count > 0) {
+      int size = Math.min(count, maxSize);
+      inventory.setOrGiveStack(ItemHandlerHelper.copyStackWithSize(stack, size));
+      count -= size;
+    }
+  }
+
 
   /* Display */
 
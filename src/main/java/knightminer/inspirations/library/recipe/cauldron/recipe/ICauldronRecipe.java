@@ -29,6 +29,27 @@ public interface ICauldronRecipe extends ICustomOutputRecipe<ICauldronInventory>
    */
   void handleRecipe(IModifyableCauldronInventory inventory);
 
+  /**
+   * Gets the number of times this recipe can run in a row on the given inventory, used to process item entities in bulk.
+   * Should only count crafts that would still match if the recipe were handled one at a time.
+   * @param inventory  Inventory matching this recipe
+   * @return  Number of crafts to pass to {@link #handleRecipe(IModifyableCauldronInventory, int)}, 1 if the recipe does not support batching
+   */
+  default int getMaxCrafts(ICauldronInventory inventory) {
+    return 1;
+  }
+
+  /**
+   * Updates the cauldron based on the results of running the recipe several times in a row
+   * @param inventory  Inventory for modification
+   * @param crafts     Number of crafts, from {@link #getMaxCrafts(ICauldronInventory)}
+   */
+  default void handleRecipe(IModifyableCauldronInventory inventory, int crafts) {
+    for (int i = 0; i < crafts; i++) {
+      handleRecipe(inventory);
+    }
+  }
+
   @Override
   default IRecipeType<?> getType() {
     return RecipeTypes.CAULDRON;
@@ -116,7 +116,8 @@ public abstract class DyeableCauldronRecipe implements ICauldronRecipe, IMultiRe
 
     @Override
     protected boolean matches(ICauldronContents contents, ItemStack stack) {
-      return contents.get(CauldronContentTypes.COLOR).filter(color -> !Util.hasColor(stack) || Util.getColor(stack) != color).isPresent();
+      Integer color = contents.getOrNull(CauldronContentTypes.COLOR);
+      return color != null && (!Util.hasColor(stack) || Util.getColor(stack) != color);
     }
 
     @Override
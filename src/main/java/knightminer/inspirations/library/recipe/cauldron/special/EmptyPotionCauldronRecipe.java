@@ -61,10 +61,7 @@ public class EmptyPotionCauldronRecipe implements ICauldronRecipe {
     }
 
     // contents must be empty or match the given potion
-    return inv.getLevel() == 0 || inv.getContents()
-                                     .get(CauldronContentTypes.POTION)
-                                     .map(potion::equals)
-                                     .orElse(false);
+    return inv.getLevel() == 0 || inv.getContents().contains(CauldronContentTypes.POTION, potion);
   }
 
   @Override
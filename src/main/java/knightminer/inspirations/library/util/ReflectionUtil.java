@@ -4,29 +4,47 @@ import knightminer.inspirations.library.InspirationsRegistry;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
 import net.minecraftforge.fml.common.ObfuscationReflectionHelper.UnableToFindFieldException;
-import net.minecraftforge.fml.common.ObfuscationReflectionHelper.UnableToFindMethodException;
 import net.minecraftforge.registries.ForgeRegistryEntry;
 import net.minecraftforge.registries.IRegistryDelegate;
 
 import javax.annotation.Nullable;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
+/**
+ * Accessors for private fields, resolved once into method handles when this class loads.
+ * Call {@link #init()} during mod setup so failed lookups are reported at startup.
+ */
 public final class ReflectionUtil {
   private ReflectionUtil() {}
 
-  private static final Map<String,Field> FIELDS = new HashMap<>();
-  private static final Map<String,Method> METHODS = new HashMap<>();
-  private static final Map<String,Class<?>> CLASS = new HashMap<>();
+  /** Generic getter type, all getters are adapted to this so they can be invoked exactly */
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  /* PotionBrewing.MixPredicate */
+  @Nullable
+  private static final Class<?> MIX_PREDICATE = getClass("net.minecraft.potion.PotionBrewing$MixPredicate");
+  @Nullable
+  private static final MethodHandle MIX_PREDICATE_INPUT = findGetter(MIX_PREDICATE, "field_185198_a");
+  @Nullable
+  private static final MethodHandle MIX_PREDICATE_REAGENT = findGetter(MIX_PREDICATE, "field_185199_b");
+  @Nullable
+  private static final MethodHandle MIX_PREDICATE_OUTPUT = findGetter(MIX_PREDICATE, "field_185200_c");
+
+  /**
+   * Ensures all accessors are resolved
+   * @return  True if all accessors were found, false if any failed, failures are logged
+   */
+  public static boolean init() {
+    return MIX_PREDICATE_INPUT != null && MIX_PREDICATE_REAGENT != null && MIX_PREDICATE_OUTPUT != null;
+  }
 
   /* PotionBrewing.MixPredicate */
 
   @Nullable
   public static <T extends ForgeRegistryEntry<T>> T getMixPredicateInput(Object mixPredicate) {
-    IRegistryDelegate<T> effect = getPrivateValue(getClass("net.minecraft.potion.PotionBrewing$MixPredicate"), mixPredicate, "field_185198_a");
+    IRegistryDelegate<T> effect = getValue(MIX_PREDICATE, MIX_PREDICATE_INPUT, mixPredicate);
     if (effect != null) {
       return effect.get();
     }
@@ -35,12 +53,12 @@ public final class ReflectionUtil {
 
   @Nullable
   public static Ingredient getMixPredicateReagent(Object mixPredicate) {
-    return getPrivateValue(getClass("net.minecraft.potion.PotionBrewing$MixPredicate"), mixPredicate, "field_185199_b");
+    return getValue(MIX_PREDICATE, MIX_PREDICATE_REAGENT, mixPredicate);
   }
 
   @Nullable
   public static <T extends ForgeRegistryEntry<T>> T getMixPredicateOutput(Object mixPredicate) {
-    IRegistryDelegate<T> effect = getPrivateValue(getClass("net.minecraft.potion.PotionBrewing$MixPredicate"), mixPredicate, "field_185200_c");
+    IRegistryDelegate<T> effect = getValue(MIX_PREDICATE, MIX_PREDICATE_OUTPUT, mixPredicate);
     if (effect != null) {
       return effect.get();
     }
@@ -51,70 +69,61 @@ public final class ReflectionUtil {
   /* Base Methods */
 
   /**
-   * Searches the instance for the occurrence of a method either named by its SRG name (obfuscated) or MCP name (development),
-   * caches the reference for further use, invokes the method and returns the value returned by the invocation (or <tt>null</tt>, if the method is <tt>void</tt>).<br>
-   * If it can't find the method or something went wrong during invocation, it will be logged and <tt>null</tt> is returned.
-   * @param instance The instance to be accessed. Cannot be <tt>null</tt>!
-   * @param name     The name used in a development environment
-   * @param <T>      The type of the return value. Must be the same as or a superclass of the return type of the method! {@link Object}, if the method is <tt>void</tt>
-   * @return The return value of the method or <tt>null</tt>, if it fails or the method is <tt>void</tt>
+   * Looks up a class by its name.<br>
+   * If it can't find the class, it will be logged and <tt>null</tt> is returned.
+   * @param className The class name to be searched for
+   * @return The class found or <tt>null</tt>, if the class is unavailable
    */
   @Nullable
-  @SuppressWarnings("unchecked")
-  private static <T> T invokeMethod(final Class<?> classToSearch, final Object instance, final String name, final Class<?>[] paramTypes, final Object... params) {
+  private static Class<?> getClass(String className) {
     try {
-      Method m = METHODS.computeIfAbsent(name, key -> ObfuscationReflectionHelper.findMethod(classToSearch, name, paramTypes));
-      return (T)m.invoke(instance, params);
-    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | ClassCastException | UnableToFindMethodException e) {
+      return Class.forName(className, false, InspirationsRegistry.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
       InspirationsRegistry.log.error(e);
-      METHODS.putIfAbsent(name, null); // set cache of method to null if it errors trying to find the method in the first place
       return null;
     }
   }
 
   /**
-   * Looks up a class by its name, caches it for further use and returns it.<br>
-   * If it can't find the class, it will be logged and <tt>null</tt> is returned.
-   * @param className The class name to be searched for
-   * @return The class found or <tt>null</tt>, if the class is unavailable
+   * Searches the class for the occurrence of a field either named by its SRG name (obfuscated) or MCP name (development),
+   * and creates a getter taking the instance as an {@link Object} and returning the value as an {@link Object}.<br>
+   * If it can't find the field, it will be logged and <tt>null</tt> is returned.
+   * @param clazz The class containing the field, <tt>null</tt> if the class failed to load
+   * @param name  SRG name of the field to find
+   * @return The getter or <tt>null</tt>, if it fails
    */
   @Nullable
-  @SuppressWarnings("unchecked")
-  private static Class<? super Object> getClass(String className) {
-    return (Class<? super Object>)CLASS.computeIfAbsent(className, key -> {
-      try {
-        return Class.forName(key, false, InspirationsRegistry.class.getClassLoader());
-      } catch (ClassNotFoundException e) {
-        InspirationsRegistry.log.error(e);
-        return null;
-      }
-    });
+  private static MethodHandle findGetter(@Nullable Class<?> clazz, String name) {
+    if (clazz == null) {
+      return null;
+    }
+    try {
+      return MethodHandles.lookup().unreflectGetter(ObfuscationReflectionHelper.findField(clazz, name)).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | UnableToFindFieldException e) {
+      InspirationsRegistry.log.error(e);
+      return null;
+    }
   }
 
   /**
-   * Searches the class for the occurrence of a field either named by its SRG name (obfuscated) or MCP name (development),
-   * caches the reference for further use and returns the value of the field from the instance (or statically, if the instance is <tt>null</tt>.<br>
-   * If it can't find the field or something went wrong with getting the value, it will be logged and <tt>null</tt> is returned.
-   * @param instance The instance to be accessed, <tt>null</tt> if the field is static
-   * @param name     SRG name of the field to find
+   * Gets the value of a field from the instance using a getter from {@link #findGetter(Class, String)}.<br>
+   * If the getter is missing or something went wrong with getting the value, <tt>null</tt> is returned.
+   * @param clazz    The class containing the field
+   * @param getter   Getter for the field
+   * @param instance The instance to be accessed
    * @param <T>      The type of the return value. Must be the same as or a superclass of the type of the field!
    * @return The value of the field or <tt>null</tt>, if it fails
    */
   @Nullable
   @SuppressWarnings("unchecked")
-  private static <C, T> T getPrivateValue(@Nullable Class<? super C> clazz, final Object instance, final String name) {
-    if (clazz == null) {
-      return null;
-    }
-    if (!clazz.isInstance(instance)) {
+  private static <T> T getValue(@Nullable Class<?> clazz, @Nullable MethodHandle getter, Object instance) {
+    if (getter == null || clazz == null || !clazz.isInstance(instance)) {
       return null;
     }
     try {
-      Field f = FIELDS.computeIfAbsent(name, key -> ObfuscationReflectionHelper.findField(clazz, name));
-      return (T)f.get(instance);
-    } catch (IllegalAccessException | UnableToFindFieldException | ClassCastException e) {
+      return (T)(Object)getter.invokeExact(instance);
+    } catch (Throwable e) {
       InspirationsRegistry.log.error(e);
-      FIELDS.putIfAbsent(name, null); // set cache of field to null if it errors trying to find the field in the first place
       return null;
     }
   }
@@ -0,0 +1,237 @@
+package knightminer.inspirations.plugins.jei;
+
+import knightminer.inspirations.Inspirations;
+import knightminer.inspirations.common.Config;
+import knightminer.inspirations.library.recipe.RecipeTypes;
+import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipeDisplay;
+import net.minecraft.client.Minecraft;
+import net.minecraft.item.DyeColor;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.registries.ForgeRegistries;
+import slimeknights.mantle.recipe.IMultiRecipe;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cauldron recipes and contents displayed in JEI. Built on a background thread as soon as recipes and tags sync,
+ * so the JEI callbacks during world join only wait on any work that has not yet finished.
+ */
+final class CauldronRecipeCatalog {
+  private CauldronRecipeCatalog() {}
+
+  /** Background thread for building the catalog */
+  private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+    Thread thread = new Thread(r, "Inspirations JEI cauldron recipes");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  /** If true, the sync listeners were registered */
+  private static boolean initialized = false;
+  /** Synced recipe manager waiting on tags before building */
+  private static WeakReference<RecipeManager> pending = new WeakReference<>(null);
+  /** Catalog being built or built for {@link #source} */
+  @Nullable
+  private static CompletableFuture<CauldronRecipeCatalog> future;
+  /** Recipe manager used to build the current catalog */
+  private static WeakReference<RecipeManager> source = new WeakReference<>(null);
+  /** Extended cauldron config used to build the current catalog */
+  private static boolean sourceExtended;
+
+  /** Recipes to display */
+  private final List<ICauldronRecipeDisplay> recipes;
+  /** Contents to register as ingredients, empty if the cauldron is not extended */
+  private final List<ICauldronContents> contents;
+
+  private CauldronRecipeCatalog(List<ICauldronRecipeDisplay> recipes, List<ICauldronContents> contents) {
+    this.recipes = recipes;
+    this.contents = contents;
+  }
+
+  /**
+   * Gets all cauldron recipes for display in JEI
+   * @return  List of cauldron recipes
+   */
+  List<ICauldronRecipeDisplay> getRecipes() {
+    return recipes;
+  }
+
+  /**
+   * Gets all cauldron contents to register as JEI ingredients
+   * @return  List of cauldron contents
+   */
+  List<ICauldronContents> getContents() {
+    return contents;
+  }
+
+
+  /* Scheduling */
+
+  /**
+   * Registers the listeners to start building the catalog once recipes and tags sync
+   */
+  static synchronized void init() {
+    if (!initialized) {
+      initialized = true;
+      MinecraftForge.EVENT_BUS.addListener(CauldronRecipeCatalog::recipesUpdated);
+      // run before JEI reacts to the same event, so the catalog builds while other plugins register
+      MinecraftForge.EVENT_BUS.addListener(EventPriority.HIGH, CauldronRecipeCatalog::tagsUpdated);
+    }
+  }
+
+  /** Marks the synced recipes for building, tags sync after recipes so building waits on them */
+  private static void recipesUpdated(RecipesUpdatedEvent event) {
+    if (Config.cauldronRecipes.getAsBoolean()) {
+      synchronized (CauldronRecipeCatalog.class) {
+        pending = new WeakReference<>(event.getRecipeManager());
+      }
+    }
+  }
+
+  /** Starts building the catalog for the pending recipes, as recipe ingredients are now bound to the synced tags */
+  private static void tagsUpdated(TagsUpdatedEvent event) {
+    // the integrated server fires the same event on its own thread
+    if (!Minecraft.getInstance().isOnExecutionThread()) {
+      return;
+    }
+    synchronized (CauldronRecipeCatalog.class) {
+      RecipeManager manager = pending.get();
+      if (manager != null) {
+        pending = new WeakReference<>(null);
+        // the client reuses its recipe manager between syncs, so always rebuild
+        start(manager, Config.extendedCauldron.getAsBoolean(), true);
+      }
+    }
+  }
+
+  /**
+   * Starts building the catalog for the given manager, unless already built for it
+   * @param manager   Recipe manager
+   * @param extended  If true, the extended cauldron is enabled
+   * @param force     If true, rebuilds even if a catalog exists for the manager
+   * @return  Catalog future
+   */
+  private static CompletableFuture<CauldronRecipeCatalog> start(RecipeManager manager, boolean extended, boolean force) {
+    if (force || future == null || source.get() != manager || sourceExtended != extended) {
+      source = new WeakReference<>(manager);
+      sourceExtended = extended;
+      future = CompletableFuture.supplyAsync(() -> build(manager, extended), EXECUTOR);
+    }
+    return future;
+  }
+
+  /**
+   * Gets the catalog for the given manager, waiting for it to finish building if needed
+   * @param manager  Recipe manager
+   * @return  Catalog
+   */
+  static CauldronRecipeCatalog get(RecipeManager manager) {
+    boolean extended = Config.extendedCauldron.getAsBoolean();
+    CompletableFuture<CauldronRecipeCatalog> catalog;
+    synchronized (CauldronRecipeCatalog.class) {
+      // building now, so a later tag sync does not need to rebuild
+      if (pending.get() == manager) {
+        pending = new WeakReference<>(null);
+      }
+      catalog = start(manager, extended, false);
+    }
+    try {
+      return catalog.join();
+    } catch (CompletionException e) {
+      Inspirations.log.error("Failed to build cauldron recipes in the background, retrying", e.getCause());
+      return build(manager, extended);
+    }
+  }
+
+  /**
+   * Releases the catalog once JEI has registered it
+   * @param manager  Recipe manager the catalog was built from
+   */
+  static synchronized void release(RecipeManager manager) {
+    if (source.get() == manager) {
+      future = null;
+      source = new WeakReference<>(null);
+    }
+  }
+
+
+  /* Building */
+
+  /**
+   * Builds the catalog, safe to run off the main thread as synced recipes are not modified
+   * @param manager   Recipe manager
+   * @param extended  If true, the extended cauldron is enabled
+   * @return  Catalog
+   */
+  private static CauldronRecipeCatalog build(RecipeManager manager, boolean extended) {
+    List<ICauldronRecipeDisplay> recipes = getCauldronRecipes(manager, extended);
+    List<ICauldronContents> contents;
+    if (extended) {
+      contents = new ArrayList<>();
+      // first, add potions
+      ForgeRegistries.POTION_TYPES.getValues().stream().map(CauldronContentTypes.POTION::of).forEach(contents::add);
+      // next, dyes
+      Arrays.stream(DyeColor.values()).map(CauldronContentTypes.DYE::of).forEach(contents::add);
+      // finally custom, do this by scanning all recipe outputs
+      recipes.stream()
+             .map(ICauldronRecipeDisplay::getContentOutput)
+             .filter(c -> c.contains(CauldronContentTypes.CUSTOM))
+             .forEach(contents::add);
+      // filter out any types cross registered as fluids or another type
+      contents = contents.stream().filter(content -> !content.contains(CauldronContentTypes.FLUID)).distinct().collect(Collectors.toList());
+    } else {
+      contents = Collections.emptyList();
+    }
+    return new CauldronRecipeCatalog(recipes, contents);
+  }
+
+  /**
+   * Gets a list of all cauldron recipes for display in JEI
+   * @param manager   Recipe manager
+   * @param extended  If true, the extended cauldron is enabled
+   * @return  List of cauldron recipes
+   */
+  private static List<ICauldronRecipeDisplay> getCauldronRecipes(RecipeManager manager, boolean extended) {
+    Stream<? extends IRecipe<?>> allRecipes = manager.getRecipes(RecipeTypes.CAULDRON).values().stream();
+    // combine in transform recipes if extended
+    if (extended) {
+      allRecipes = Stream.concat(allRecipes, manager.getRecipes(RecipeTypes.CAULDRON_TRANSFORM).values().stream());
+    }
+    // sort recipes, and filter
+    Stream<ICauldronRecipeDisplay> recipes = allRecipes
+        .sorted((r1, r2) -> {
+          boolean m1 = r1 instanceof IMultiRecipe;
+          boolean m2 = r2 instanceof IMultiRecipe;
+          if (m1 && !m2) return 1;
+          return !m1 && m2 ? -1 : r1.getId().compareTo(r2.getId());
+        })
+        .flatMap((recipe) -> recipe instanceof IMultiRecipe ? ((IMultiRecipe<?>)recipe).getRecipes().stream() : Stream.of(recipe))
+        .filter(recipe -> recipe instanceof ICauldronRecipeDisplay)
+        .map(recipe -> (ICauldronRecipeDisplay) recipe)
+        .filter(ICauldronRecipeDisplay::isSimple);
+    // if simple, remove anything with an invalid input or output
+    if (!extended) {
+      recipes = recipes.filter(recipe -> recipe.getContentOutput().isSimple() && recipe.getContentInputs().stream().allMatch(ICauldronContents::isSimple));
+    }
+    // return collected recipes
+    return recipes.collect(Collectors.toList());
+  }
+}
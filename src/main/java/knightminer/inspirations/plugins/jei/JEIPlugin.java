@@ -4,10 +4,7 @@ import knightminer.inspirations.Inspirations;
 import knightminer.inspirations.building.InspirationsBuilding;
 import knightminer.inspirations.common.Config;
 import knightminer.inspirations.common.IHidable;
-import knightminer.inspirations.library.recipe.RecipeTypes;
-import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
 import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
-import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipeDisplay;
 import knightminer.inspirations.plugins.jei.cauldron.CauldronCategory;
 import knightminer.inspirations.plugins.jei.cauldron.CauldronContentHelper;
 import knightminer.inspirations.plugins.jei.cauldron.CauldronRenderer;
@@ -25,23 +22,15 @@ import mezz.jei.api.runtime.IIngredientManager;
 import mezz.jei.api.runtime.IJeiRuntime;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.Minecraft;
-import net.minecraft.item.DyeColor;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.item.crafting.RecipeManager;
 import net.minecraft.util.IItemProvider;
 import net.minecraft.util.ResourceLocation;
-import net.minecraftforge.registries.ForgeRegistries;
 import slimeknights.mantle.item.RetexturedBlockItem;
-import slimeknights.mantle.recipe.IMultiRecipe;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @JeiPlugin
 public class JEIPlugin implements IModPlugin {
@@ -54,8 +43,10 @@ public class JEIPlugin implements IModPlugin {
   // This lets us reduce the work JEI tries to do.
   private static final List<HideState> HIDABLE_ITEMS = new ArrayList<>();
 
-  // list of recipes, stored between register ingredients and register recipes
-  private static List<ICauldronRecipeDisplay> recipes;
+  public JEIPlugin() {
+    // start building cauldron recipes as soon as they sync
+    CauldronRecipeCatalog.init();
+  }
 
   @Override
   public ResourceLocation getPluginUid() {
@@ -63,66 +54,19 @@ public class JEIPlugin implements IModPlugin {
   }
 
   /**
-   * Gets a list of all cauldron recipes for display in JEI
-   * @return  List of cauldron recipes
+   * Gets the recipe manager of the client world
+   * @return  Recipe manager
    */
-  private static List<ICauldronRecipeDisplay> getCauldronRecipes() {
+  private static RecipeManager getRecipeManager() {
     assert Minecraft.getInstance().world != null;
-    RecipeManager manager = Minecraft.getInstance().world.getRecipeManager();
-    boolean isExtended = Config.extendedCauldron.getAsBoolean();
-    Stream<? extends IRecipe<?>> allRecipes = manager.getRecipes(RecipeTypes.CAULDRON).values().stream();
-    // combine in transform recipes if extended
-    if (isExtended) {
-      allRecipes = Stream.concat(allRecipes, manager.getRecipes(RecipeTypes.CAULDRON_TRANSFORM).values().stream());
-    }
-    // sort recipes, and filter
-    Stream<ICauldronRecipeDisplay> recipes = allRecipes
-        .sorted((r1, r2) -> {
-          boolean m1 = r1 instanceof IMultiRecipe;
-          boolean m2 = r2 instanceof IMultiRecipe;
-          if (m1 && !m2) return 1;
-          return !m1 && m2 ? -1 : r1.getId().compareTo(r2.getId());
-        })
-        .flatMap((recipe) -> recipe instanceof IMultiRecipe ? ((IMultiRecipe<?>)recipe).getRecipes().stream() : Stream.of(recipe))
-        .filter(recipe -> recipe instanceof ICauldronRecipeDisplay)
-        .map(recipe -> (ICauldronRecipeDisplay) recipe)
-        .filter(ICauldronRecipeDisplay::isSimple);
-    // if simple, remove anything with an invalid input or output
-    if (!isExtended) {
-      recipes = recipes.filter(recipe -> recipe.getContentOutput().isSimple() && recipe.getContentInputs().stream().allMatch(ICauldronContents::isSimple));
-    }
-    // return collected recipes
-    return recipes.collect(Collectors.toList());
+    return Minecraft.getInstance().world.getRecipeManager();
   }
 
   @Override
   public void registerIngredients(IModIngredientRegistration registration) {
     if (Config.cauldronRecipes.getAsBoolean()) {
       // need the ingredient regardless, but will be empty if simple
-      List<ICauldronContents> contents;
-      if (Config.extendedCauldron.getAsBoolean()) {
-        contents = new ArrayList<>();
-        // first, add potions
-        contents.addAll(ForgeRegistries.POTION_TYPES.getValues()
-                                                    .stream()
-                                                    .map(CauldronContentTypes.POTION::of)
-                                                    .collect(Collectors.toList()));
-        // next, dyes
-        contents.addAll(Arrays.stream(DyeColor.values())
-                              .map(CauldronContentTypes.DYE::of)
-                              .collect(Collectors.toList()));
-        // finally custom, do this by scanning all recipe outputs
-        recipes = getCauldronRecipes();
-        contents.addAll(recipes.stream()
-                               .map(ICauldronRecipeDisplay::getContentOutput)
-                               .filter(c -> c.contains(CauldronContentTypes.CUSTOM))
-                               .distinct()
-                               .collect(Collectors.toList()));
-        // filter out any types cross registered as fluids or another type
-        contents = contents.stream().filter(content -> !content.contains(CauldronContentTypes.FLUID)).distinct().collect(Collectors.toList());
-      } else {
-        contents = Collections.emptyList();
-      }
+      List<ICauldronContents> contents = CauldronRecipeCatalog.get(getRecipeManager()).getContents();
       // register the ingredient
       registration.register(CAULDRON_CONTENTS, contents, CauldronContentHelper.INSTANCE, CauldronRenderer.LIST);
     }
@@ -138,11 +82,9 @@ public class JEIPlugin implements IModPlugin {
   @Override
   public void registerRecipes(IRecipeRegistration registration) {
     if (Config.cauldronRecipes.getAsBoolean()) {
-      if (recipes == null) {
-        recipes = getCauldronRecipes();
-      }
-      registration.addRecipes(recipes, CauldronCategory.ID);
-      recipes = null;
+      RecipeManager manager = getRecipeManager();
+      registration.addRecipes(CauldronRecipeCatalog.get(manager).getRecipes(), CauldronCategory.ID);
+      CauldronRecipeCatalog.release(manager);
     }
   }
 
@@ -10,6 +10,7 @@ import knightminer.inspirations.library.recipe.cauldron.recipe.CauldronTransform
 import knightminer.inspirations.library.recipe.cauldron.special.DyeableCauldronRecipe;
 import knightminer.inspirations.library.recipe.cauldron.special.EmptyPotionCauldronRecipe;
 import knightminer.inspirations.library.recipe.cauldron.special.FillPotionCauldronRecipe;
+import knightminer.inspirations.library.util.ReflectionUtil;
 import knightminer.inspirations.recipes.block.EnhancedCauldronBlock;
 import knightminer.inspirations.recipes.data.RecipesRecipeProvider;
 import knightminer.inspirations.recipes.item.EmptyBottleItem;
@@ -61,6 +62,8 @@ import slimeknights.mantle.registration.adapter.RegistryAdapter;
 import slimeknights.mantle.registration.adapter.TileEntityTypeRegistryAdapter;
 import slimeknights.mantle.registration.object.EnumObject;
 
+import java.util.function.BiConsumer;
+
 @SuppressWarnings({"WeakerAccess", "unused"})
 public class InspirationsRecipes extends ModuleBase {
   public static final ResourceLocation STILL_FLUID = Inspirations.getResource("block/fluid/colorless");
@@ -210,23 +213,37 @@ public class InspirationsRecipes extends ModuleBase {
   @SubscribeEvent
   void registerSerializers(Register<IRecipeSerializer<?>> event) {
     RegistryAdapter<IRecipeSerializer<?>> registry = new RegistryAdapter<>(event.getRegistry());
-    registry.register(new CauldronRecipe.Serializer(), "cauldron");
-    registry.register(new EmptyPotionCauldronRecipe.Serializer(), "cauldron_empty_potion");
-    registry.register(new FillPotionCauldronRecipe.Serializer(), "cauldron_fill_potion");
-    registry.register(new DyeCauldronWaterRecipe.Serializer(), "cauldron_dye_water");
-    registry.register(new MixCauldronDyeRecipe.Serializer(), "cauldron_mix_dye");
-    registry.register(new DyeableCauldronRecipe.Serializer(DyeableCauldronRecipe.Dye::new), "cauldron_dye_dyeable");
-    registry.register(new DyeableCauldronRecipe.Serializer(DyeableCauldronRecipe.Clear::new), "cauldron_clear_dyeable");
-    registry.register(new CauldronTransform.Serializer(), "cauldron_transform");
-    registry.register(new PotionFermentCauldronTransform.Serializer(), "cauldron_potion_ferment");
+    forEachSerializer(registry::register);
+    addContentOverrides();
+  }
+
+  /**
+   * Runs the consumer for every recipe serializer in this module. Shared with the benchmark harness, which registers them outside the mod loader
+   * @param consumer  Consumer taking the serializer and its name
+   */
+  public static void forEachSerializer(BiConsumer<IRecipeSerializer<?>,String> consumer) {
+    consumer.accept(new CauldronRecipe.Serializer(), "cauldron");
+    consumer.accept(new EmptyPotionCauldronRecipe.Serializer(), "cauldron_empty_potion");
+    consumer.accept(new FillPotionCauldronRecipe.Serializer(), "cauldron_fill_potion");
+    consumer.accept(new DyeCauldronWaterRecipe.Serializer(), "cauldron_dye_water");
+    consumer.accept(new MixCauldronDyeRecipe.Serializer(), "cauldron_mix_dye");
+    consumer.accept(new DyeableCauldronRecipe.Serializer(DyeableCauldronRecipe.Dye::new), "cauldron_dye_dyeable");
+    consumer.accept(new DyeableCauldronRecipe.Serializer(DyeableCauldronRecipe.Clear::new), "cauldron_clear_dyeable");
+    consumer.accept(new CauldronTransform.Serializer(), "cauldron_transform");
+    consumer.accept(new PotionFermentCauldronTransform.Serializer(), "cauldron_potion_ferment");
 
-    registry.register(new SpecialRecipeSerializer<>(EmptyBucketCauldronRecipe::new), "cauldron_empty_bucket");
-    registry.register(new SpecialRecipeSerializer<>(FillBucketCauldronRecipe::new), "cauldron_fill_bucket");
-    registry.register(new SpecialRecipeSerializer<>(FillDyedBottleRecipe::new), "cauldron_fill_dyed_bottle");
-    registry.register(new SpecialRecipeSerializer<>(RemoveBannerPatternCauldronRecipe::new), "cauldron_remove_banner_pattern");
-    registry.register(new BrewingCauldronRecipe.Serializer(BrewingCauldronRecipe.Vanilla::new), "cauldron_potion_brewing");
-    registry.register(new BrewingCauldronRecipe.Serializer(BrewingCauldronRecipe.Forge::new), "cauldron_forge_brewing");
+    consumer.accept(new SpecialRecipeSerializer<>(EmptyBucketCauldronRecipe::new), "cauldron_empty_bucket");
+    consumer.accept(new SpecialRecipeSerializer<>(FillBucketCauldronRecipe::new), "cauldron_fill_bucket");
+    consumer.accept(new SpecialRecipeSerializer<>(FillDyedBottleRecipe::new), "cauldron_fill_dyed_bottle");
+    consumer.accept(new SpecialRecipeSerializer<>(RemoveBannerPatternCauldronRecipe::new), "cauldron_remove_banner_pattern");
+    consumer.accept(new BrewingCauldronRecipe.Serializer(BrewingCauldronRecipe.Vanilla::new), "cauldron_potion_brewing");
+    consumer.accept(new BrewingCauldronRecipe.Serializer(BrewingCauldronRecipe.Forge::new), "cauldron_forge_brewing");
+  }
 
+  /**
+   * Adds the content overrides used by cauldron recipes
+   */
+  public static void addContentOverrides() {
     // add water as an override to potions
     ICauldronContents water = CauldronContentTypes.FLUID.of(Fluids.WATER);
     CauldronContentTypes.POTION.setResult(Potions.WATER, water);
@@ -247,6 +264,11 @@ public class InspirationsRecipes extends ModuleBase {
 
   @SubscribeEvent
   void commonSetup(FMLCommonSetupEvent event) {
+    // resolve private field accessors now, so failures are reported on startup
+    if (!ReflectionUtil.init()) {
+      Inspirations.log.error("Failed to access potion brewing mixes, cauldron potion brewing will not work");
+    }
+
     if (Config.extendedCauldron.getAsBoolean()) {
       // inject new cauldron blocks into the leatherworker point of interest
       // fortunately, its as simple as injecting it into the map
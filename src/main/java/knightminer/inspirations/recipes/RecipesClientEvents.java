@@ -11,29 +11,40 @@ import knightminer.inspirations.recipes.client.BoilingParticle;
 import knightminer.inspirations.recipes.item.MixedDyedBottleItem;
 import knightminer.inspirations.recipes.tileentity.CauldronTileEntity;
 import knightminer.inspirations.shared.SharedClientEvents;
+import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BlockModelShapes;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.RenderTypeLookup;
 import net.minecraft.client.renderer.color.BlockColors;
 import net.minecraft.client.renderer.color.ItemColors;
+import net.minecraft.client.renderer.model.IBakedModel;
 import net.minecraft.fluid.Fluids;
 import net.minecraft.inventory.container.PlayerContainer;
 import net.minecraft.resources.IReloadableResourceManager;
 import net.minecraft.resources.IResourceManager;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.biome.BiomeColors;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.ColorHandlerEvent;
+import net.minecraftforge.client.event.ModelBakeEvent;
 import net.minecraftforge.client.event.ModelRegistryEvent;
 import net.minecraftforge.client.event.ParticleFactoryRegisterEvent;
 import net.minecraftforge.client.event.TextureStitchEvent;
 import net.minecraftforge.client.model.ModelLoaderRegistry;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 @SuppressWarnings("unused")
 @EventBusSubscriber(modid = Inspirations.modID, value = Dist.CLIENT, bus = Bus.MOD)
 public class RecipesClientEvents extends ClientEvents {
@@ -60,6 +71,13 @@ public class RecipesClientEvents extends ClientEvents {
     if (Config.extendedCauldron.getAsBoolean()) {
       RenderTypeLookup.setRenderLayer(Blocks.CAULDRON, RenderType.getCutout());
     }
+
+    MinecraftForge.EVENT_BUS.addListener(RecipesClientEvents::loggedOut);
+  }
+
+  /** Drops the server content type IDs, so the next server or singleplayer world starts from local IDs */
+  private static void loggedOut(ClientPlayerNetworkEvent.LoggedOutEvent event) {
+    CauldronContentTypes.clearRemoteIds();
   }
 
   @SubscribeEvent
@@ -68,6 +86,22 @@ public class RecipesClientEvents extends ClientEvents {
     SharedClientEvents.configPack.addBlockstateReplacement(Config.extendedCauldron, Blocks.CAULDRON, "cauldron");
   }
 
+  @SubscribeEvent
+  static void modelBake(ModelBakeEvent event) {
+    if (InspirationsRecipes.cauldron == null) {
+      return;
+    }
+    // bake common fluids ahead of time, so the first cauldron rendered does not stall
+    Set<ResourceLocation> textures = new LinkedHashSet<>();
+    textures.add(Fluids.WATER.getAttributes().getStillTexture());
+    textures.add(Fluids.LAVA.getAttributes().getStillTexture());
+    textures.addAll(cauldronTextures.getTextures());
+    Map<ResourceLocation,IBakedModel> models = event.getModelRegistry();
+    for (BlockState state : InspirationsRecipes.cauldron.getStateContainer().getValidStates()) {
+      CauldronModel.warmup(models.get(BlockModelShapes.getModelLocation(state)), textures);
+    }
+  }
+
   @SubscribeEvent
   static void registerBlockColors(ColorHandlerEvent.Block event) {
     BlockColors blockColors = event.getBlockColors();
@@ -2,6 +2,8 @@ package knightminer.inspirations.recipes;
 
 import knightminer.inspirations.Inspirations;
 import knightminer.inspirations.common.Config;
+import knightminer.inspirations.recipes.dispenser.DispenseCauldronRecipe;
+import knightminer.inspirations.recipes.recipe.CauldronRecipeIndex;
 import knightminer.inspirations.recipes.recipe.inventory.CauldronItemInventory;
 import knightminer.inspirations.recipes.recipe.inventory.VanillaCauldronInventory;
 import knightminer.inspirations.recipes.tileentity.CauldronTileEntity;
@@ -12,6 +14,7 @@ import net.minecraft.util.ActionResultType;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent.RightClickBlock;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -72,6 +75,15 @@ public class RecipesEvents {
     // TODO: blacklist?
   }
 
+  /**
+   * Clears the cauldron recipe index and dispenser recipe memo when tags change, as item ingredients may match different items
+   */
+  @SubscribeEvent
+  public static void tagsUpdated(TagsUpdatedEvent event) {
+    CauldronRecipeIndex.clearCache();
+    DispenseCauldronRecipe.clearCache();
+  }
+
 	/* TODO: bottle does not exist
 	@SubscribeEvent
 	public static void milkSquid(EntityInteract event) {
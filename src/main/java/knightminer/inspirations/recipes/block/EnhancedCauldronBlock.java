@@ -115,7 +115,7 @@ public class EnhancedCauldronBlock extends CauldronBlock {
   @Deprecated
   public BlockState updatePostPlacement(BlockState state, Direction facing, BlockState facingState, IWorld world, BlockPos currentPos, BlockPos facingPos) {
     // need a method called on both sides, neighborChanged is server only
-    TileEntityHelper.getTile(CauldronTileEntity.class, world, currentPos).ifPresent(te -> te.neighborChanged(facingPos));
+    TileEntityHelper.getTile(CauldronTileEntity.class, world, currentPos).ifPresent(te -> te.neighborChanged(facing, facingState));
     return state;
   }
 
@@ -1,7 +1,10 @@
 package knightminer.inspirations.recipes.dispenser;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import knightminer.inspirations.common.Config;
 import knightminer.inspirations.library.InspirationsTags;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
 import knightminer.inspirations.recipes.recipe.inventory.VanillaCauldronInventory;
 import knightminer.inspirations.recipes.tileentity.CauldronTileEntity;
 import net.minecraft.block.BlockState;
@@ -16,7 +19,10 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import slimeknights.mantle.util.TileEntityHelper;
 
+import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 
 /**
@@ -24,6 +30,14 @@ import java.util.function.Consumer;
  */
 public class DispenseCauldronRecipe extends DefaultDispenseItemBehavior {
   private static final DefaultDispenseItemBehavior DEFAULT = new DefaultDispenseItemBehavior();
+  /** Maximum number of dispensers to remember per world before the memo is reset */
+  private static final int MAX_MEMO = 512;
+  /** Last recipe run by each dispenser, keyed by dispenser position */
+  private static final Map<World,Long2ObjectMap<ICauldronRecipe>> LAST_RECIPES = new WeakHashMap<>();
+  /** Inventory reused for dispensers in front of vanilla cauldrons, dispensers only run on the server thread */
+  private static final VanillaCauldronInventory INVENTORY = new VanillaCauldronInventory();
+  /** If true, {@link #INVENTORY} is currently running a recipe */
+  private static boolean inventoryInUse = false;
   private final IDispenseItemBehavior fallback;
 
   /**
@@ -51,8 +65,8 @@ public class DispenseCauldronRecipe extends DefaultDispenseItemBehavior {
     // create consumer to add items
     DispenserTileEntity dispenser = source.getBlockTileEntity();
     Consumer<ItemStack> addItems = item -> {
-      if (dispenser.addItemStack(stack) < 0) {
-        DEFAULT.dispense(source, stack);
+      if (dispenser.addItemStack(item) < 0) {
+        DEFAULT.dispense(source, item);
       }
     };
 
@@ -72,12 +86,62 @@ public class DispenseCauldronRecipe extends DefaultDispenseItemBehavior {
     }
 
     // use the vanilla logic to run the recipe if no TE
-    VanillaCauldronInventory inventory = new VanillaCauldronInventory(world, pos, state, stack, addItems);
-    if (inventory.handleRecipe()) {
-      return inventory.getStack();
+    ItemStack result = handleVanillaRecipe(world, source.getBlockPos(), pos, state, stack, addItems);
+    if (result != null) {
+      return result;
     }
 
     // no recipe? dispense directly
     return DEFAULT.dispense(source, stack);
   }
+
+  /**
+   * Runs a recipe in a vanilla cauldron, trying the last recipe of the dispenser first
+   * @param world      World instance
+   * @param dispenser  Dispenser position
+   * @param pos        Cauldron position
+   * @param state      Cauldron state
+   * @param stack      Dispensed stack
+   * @param addItems   Logic to give the dispenser new items
+   * @return  Resulting stack, or null if no recipe matched
+   */
+  @Nullable
+  private static ItemStack handleVanillaRecipe(World world, BlockPos dispenser, BlockPos pos, BlockState state, ItemStack stack, Consumer<ItemStack> addItems) {
+    // a recipe may update a neighbor that dispenses, use a new inventory if the shared one is busy
+    VanillaCauldronInventory inventory;
+    boolean shared = !inventoryInUse;
+    if (shared) {
+      inventory = INVENTORY;
+      inventory.update(world, pos, state, stack, addItems);
+      inventoryInUse = true;
+    } else {
+      inventory = new VanillaCauldronInventory(world, pos, state, stack, addItems);
+    }
+
+    try {
+      Long2ObjectMap<ICauldronRecipe> memo = LAST_RECIPES.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+      long key = dispenser.toLong();
+      ICauldronRecipe recipe = inventory.handleRecipe(memo.get(key));
+      if (recipe == null) {
+        return null;
+      }
+      if (memo.size() >= MAX_MEMO && !memo.containsKey(key)) {
+        memo.clear();
+      }
+      memo.put(key, recipe);
+      return inventory.getStack();
+    } finally {
+      if (shared) {
+        inventory.clear();
+        inventoryInUse = false;
+      }
+    }
+  }
+
+  /**
+   * Clears the last recipe for all dispensers, used when recipes or tags reload
+   */
+  public static void clearCache() {
+    LAST_RECIPES.clear();
+  }
 }
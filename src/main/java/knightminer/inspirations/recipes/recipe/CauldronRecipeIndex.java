@@ -0,0 +1,437 @@
+package knightminer.inspirations.recipes.recipe;
+
+import knightminer.inspirations.library.recipe.RecipeTypes;
+import knightminer.inspirations.library.recipe.cauldron.contents.CauldronContentType;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
+import knightminer.inspirations.library.recipe.cauldron.ingredient.ContentMatchIngredient;
+import knightminer.inspirations.library.recipe.cauldron.ingredient.ICauldronIngredient;
+import knightminer.inspirations.library.recipe.cauldron.inventory.ICauldronInventory;
+import knightminer.inspirations.library.recipe.cauldron.inventory.ICauldronState;
+import knightminer.inspirations.library.recipe.cauldron.recipe.AbstractCauldronRecipe;
+import knightminer.inspirations.library.recipe.cauldron.recipe.CauldronRecipe;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
+import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronTransform;
+import knightminer.inspirations.library.recipe.cauldron.util.CauldronTemperature;
+import knightminer.inspirations.library.recipe.cauldron.util.LevelPredicate;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.IRecipe;
+import net.minecraft.item.crafting.RecipeManager;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import slimeknights.mantle.recipe.SizedIngredient;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+import static knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe.MAX;
+
+/**
+ * Index of cauldron recipes and transforms for a single recipe manager, reducing a lookup to a handful of candidates.
+ * Recipes are bucketed by item input, cauldron level, and contents type. Recipes that cannot be indexed are tested for every input.
+ * Inputs that match no recipe are remembered, so repeated misses cost a single hash lookup.
+ */
+public class CauldronRecipeIndex {
+  /** Index for each recipe manager, as the client and integrated server have separate managers */
+  private static final Map<RecipeManager,CauldronRecipeIndex> INDEXES = new WeakHashMap<>();
+  /** Maximum number of inputs to remember as having no recipe */
+  private static final int MAX_MISSES = 1024;
+  /** Reusable key for checking misses, so lookups do not allocate. Recipes are looked up from both the client and server thread */
+  private static final ThreadLocal<MissKey> PROBE = ThreadLocal.withInitial(MissKey::new);
+
+  /** Recipe map used to build this index. The recipe manager replaces the map on reload, so a different map means the index is outdated */
+  private final Map<ResourceLocation,?> recipeSource;
+  /** Transform map used to build this index */
+  private final Map<ResourceLocation,?> transformSource;
+  /** Recipe candidates for items with specific recipes, first index is level */
+  private final Map<Item,Candidate<ICauldronRecipe>[][]> itemRecipes;
+  /** Recipe candidates for items without specific recipes, first index is level */
+  private final Candidate<ICauldronRecipe>[][] anyItemRecipes;
+  /** Transform candidates, first index is level */
+  private final Candidate<ICauldronTransform>[][] transforms;
+  /** Inputs known to match no recipe, least recently used is removed first. Discarded along with the index on reload */
+  private final Map<MissKey,Boolean> misses = new LinkedHashMap<MissKey,Boolean>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<MissKey,Boolean> eldest) {
+      return size() > MAX_MISSES;
+    }
+  };
+
+  /**
+   * Builds a new index from the given recipe manager
+   * @param manager  Recipe manager instance
+   */
+  private CauldronRecipeIndex(RecipeManager manager) {
+    Map<ResourceLocation,IRecipe<ICauldronInventory>> recipes = manager.getRecipes(RecipeTypes.CAULDRON);
+    Map<ResourceLocation,IRecipe<ICauldronState>> transforms = manager.getRecipes(RecipeTypes.CAULDRON_TRANSFORM);
+    this.recipeSource = recipes;
+    this.transformSource = transforms;
+
+    // split recipes into item specific and any item, both lists keep the recipe manager order
+    Map<Item,List<Candidate<ICauldronRecipe>>> byItem = new LinkedHashMap<>();
+    List<Candidate<ICauldronRecipe>> anyItem = new ArrayList<>();
+    int order = 0;
+    for (IRecipe<ICauldronInventory> recipe : recipes.values()) {
+      if (recipe instanceof ICauldronRecipe) {
+        ICauldronRecipe cauldronRecipe = (ICauldronRecipe)recipe;
+        Candidate<ICauldronRecipe> candidate = makeCandidate(cauldronRecipe, order);
+        order++;
+        Set<Item> items = getItems(cauldronRecipe);
+        if (items.isEmpty()) {
+          anyItem.add(candidate);
+        } else {
+          for (Item item : items) {
+            byItem.computeIfAbsent(item, key -> new ArrayList<>()).add(candidate);
+          }
+        }
+      }
+    }
+
+    // any item recipes also need to be tested for items with specific recipes
+    this.anyItemRecipes = byLevel(anyItem);
+    this.itemRecipes = new IdentityHashMap<>(byItem.size());
+    for (Map.Entry<Item,List<Candidate<ICauldronRecipe>>> entry : byItem.entrySet()) {
+      this.itemRecipes.put(entry.getKey(), byLevel(merge(entry.getValue(), anyItem)));
+    }
+
+    // transforms have no item, so just index by level and contents
+    List<Candidate<ICauldronTransform>> transformCandidates = new ArrayList<>();
+    order = 0;
+    for (IRecipe<ICauldronState> recipe : transforms.values()) {
+      if (recipe instanceof ICauldronTransform) {
+        transformCandidates.add(makeCandidate((ICauldronTransform)recipe, order));
+        order++;
+      }
+    }
+    this.transforms = byLevel(transformCandidates);
+  }
+
+  /**
+   * Checks if this index is still valid for the given recipe manager
+   * @param manager  Recipe manager
+   * @return  True if the recipes have not been reloaded since the index was built
+   */
+  private boolean isValid(RecipeManager manager) {
+    return recipeSource == manager.getRecipes(RecipeTypes.CAULDRON) && transformSource == manager.getRecipes(RecipeTypes.CAULDRON_TRANSFORM);
+  }
+
+
+  /* Building helpers */
+
+  /**
+   * Creates a candidate for the given recipe, determining the level range and contents type if possible
+   * @param recipe  Recipe instance
+   * @param order   Position of the recipe in the recipe manager
+   * @param <R>  Recipe type
+   * @return  Recipe candidate
+   */
+  private static <R> Candidate<R> makeCandidate(R recipe, int order) {
+    if (recipe instanceof AbstractCauldronRecipe) {
+      AbstractCauldronRecipe base = (AbstractCauldronRecipe)recipe;
+      LevelPredicate level = base.getLevelPredicate();
+      ICauldronIngredient ingredient = base.getContentIngredient();
+      CauldronContentType<?> type = null;
+      if (ingredient instanceof ContentMatchIngredient) {
+        type = ((ContentMatchIngredient<?>)ingredient).getType();
+      }
+      return new Candidate<>(recipe, order, level.getMin(), level.getMax(), type);
+    }
+    // special recipes are tested for everything
+    return new Candidate<>(recipe, order, 0, MAX, null);
+  }
+
+  /**
+   * Gets the set of items matched by the given recipe
+   * @param recipe  Recipe instance
+   * @return  Set of items, or empty if the recipe may match any item
+   */
+  private static Set<Item> getItems(ICauldronRecipe recipe) {
+    if (recipe instanceof CauldronRecipe) {
+      SizedIngredient input = ((CauldronRecipe)recipe).getInput();
+      if (input != SizedIngredient.EMPTY) {
+        // an ingredient that reports no stacks is treated as any item, matches will sort it out
+        return input.getMatchingStacks().stream()
+                    .filter(stack -> !stack.isEmpty())
+                    .map(ItemStack::getItem)
+                    .collect(Collectors.toSet());
+      }
+    }
+    return Collections.emptySet();
+  }
+
+  /**
+   * Merges two candidate lists sorted by recipe order
+   * @param first   First list
+   * @param second  Second list
+   * @param <R>  Recipe type
+   * @return  Merged list, sorted by recipe order
+   */
+  private static <R> List<Candidate<R>> merge(List<Candidate<R>> first, List<Candidate<R>> second) {
+    List<Candidate<R>> merged = new ArrayList<>(first.size() + second.size());
+    int i = 0, j = 0;
+    while (i < first.size() && j < second.size()) {
+      if (first.get(i).order < second.get(j).order) {
+        merged.add(first.get(i++));
+      } else {
+        merged.add(second.get(j++));
+      }
+    }
+    merged.addAll(first.subList(i, first.size()));
+    merged.addAll(second.subList(j, second.size()));
+    return merged;
+  }
+
+  /**
+   * Splits the candidates into an array for each cauldron level
+   * @param candidates  Candidate list
+   * @param <R>  Recipe type
+   * @return  Array of candidates for each level
+   */
+  @SuppressWarnings("unchecked")
+  private static <R> Candidate<R>[][] byLevel(List<Candidate<R>> candidates) {
+    Candidate<R>[][] levels = new Candidate[MAX + 1][];
+    for (int level = 0; level <= MAX; level++) {
+      List<Candidate<R>> matching = new ArrayList<>();
+      for (Candidate<R> candidate : candidates) {
+        if (candidate.minLevel <= level && level <= candidate.maxLevel) {
+          matching.add(candidate);
+        }
+      }
+      levels[level] = matching.toArray(new Candidate[0]);
+    }
+    return levels;
+  }
+
+
+  /* Lookup */
+
+  /**
+   * Finds the first matching recipe among the candidates
+   * @param table  Candidates for each level
+   * @param inv    Inventory to match
+   * @param world  World instance
+   * @param <C>  Inventory type
+   * @param <R>  Recipe type
+   * @return  Matching recipe, or null if none matches
+   */
+  @Nullable
+  private static <C extends ICauldronState, R extends IRecipe<C>> R findMatch(Candidate<R>[][] table, C inv, World world) {
+    int level = inv.getLevel();
+    ICauldronContents contents = inv.getContents();
+    // special recipes are in every level, so clamping still tests them
+    for (Candidate<R> candidate : table[MathHelper.clamp(level, 0, MAX)]) {
+      if (candidate.canMatch(level, contents) && candidate.recipe.matches(inv, world)) {
+        return candidate.recipe;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Gets the index for the given recipe manager, rebuilding it if recipes were reloaded
+   * @param manager  Recipe manager
+   * @return  Recipe index
+   */
+  private static synchronized CauldronRecipeIndex get(RecipeManager manager) {
+    CauldronRecipeIndex index = INDEXES.get(manager);
+    if (index == null || !index.isValid(manager)) {
+      index = new CauldronRecipeIndex(manager);
+      INDEXES.put(manager, index);
+    }
+    return index;
+  }
+
+  /**
+   * Finds a cauldron recipe matching the given inventory. Returns the same recipe as {@link RecipeManager#getRecipe(net.minecraft.item.crafting.IRecipeType, net.minecraft.inventory.IInventory, World)}
+   * @param world  World instance
+   * @param inv    Inventory to match
+   * @return  Matching recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static ICauldronRecipe findRecipe(World world, ICauldronInventory inv) {
+    return findRecipe(world.getRecipeManager(), world, inv);
+  }
+
+  /**
+   * Finds a cauldron recipe matching the given inventory using the given recipe manager
+   * @param manager  Recipe manager to search
+   * @param world    World instance passed to recipe matching
+   * @param inv      Inventory to match
+   * @return  Matching recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static ICauldronRecipe findRecipe(RecipeManager manager, World world, ICauldronInventory inv) {
+    CauldronRecipeIndex index = get(manager);
+    // skip the search if this input failed before
+    MissKey probe = PROBE.get().set(inv);
+    if (index.isMiss(probe)) {
+      return null;
+    }
+    Candidate<ICauldronRecipe>[][] table = index.itemRecipes.get(inv.getStack().getItem());
+    if (table == null) {
+      table = index.anyItemRecipes;
+    }
+    ICauldronRecipe recipe = findMatch(table, inv, world);
+    if (recipe == null) {
+      index.addMiss(probe.copy());
+    }
+    return recipe;
+  }
+
+  /**
+   * Finds a cauldron transform matching the given state
+   * @param world  World instance
+   * @param inv    Cauldron state to match
+   * @return  Matching transform, or null if no transform matches
+   */
+  @Nullable
+  public static ICauldronTransform findTransform(World world, ICauldronState inv) {
+    return findMatch(get(world.getRecipeManager()).transforms, inv, world);
+  }
+
+  /**
+   * Checks if the given input is known to match no recipe
+   * @param key  Input key
+   * @return  True if no recipe matches
+   */
+  private boolean isMiss(MissKey key) {
+    synchronized (misses) {
+      return misses.containsKey(key);
+    }
+  }
+
+  /**
+   * Marks the given input as matching no recipe
+   * @param key  Input key
+   */
+  private void addMiss(MissKey key) {
+    synchronized (misses) {
+      misses.put(key, Boolean.TRUE);
+    }
+  }
+
+  /**
+   * Clears all recipe indexes, used when tags change as item ingredients may have new values
+   */
+  public static synchronized void clearCache() {
+    INDEXES.clear();
+  }
+
+  /**
+   * Key for an input that matched no recipe, containing everything a recipe may check for a stack.
+   * Mutable so a single instance can be reused for lookups, stored keys are copies
+   */
+  private static class MissKey {
+    private Item item;
+    private int count;
+    /** Stack NBT, the probe references the stack NBT while stored keys hold a copy */
+    @Nullable
+    private CompoundNBT tag;
+    private ICauldronContents contents;
+    private int level;
+    private CauldronTemperature temperature;
+    private boolean simple;
+    private int hash;
+
+    /**
+     * Updates this key to the given inventory
+     * @param inv  Inventory
+     * @return  This key
+     */
+    private MissKey set(ICauldronInventory inv) {
+      ItemStack stack = inv.getStack();
+      CompoundNBT tag = stack.getTag();
+      // NBT is hashed once per lookup, as it is not cached by the tag
+      int hash = stack.getItem().hashCode();
+      hash = 31 * hash + stack.getCount();
+      hash = 31 * hash + (tag == null ? 0 : tag.hashCode());
+      hash = 31 * hash + inv.getContents().hashCode();
+      hash = 31 * hash + inv.getLevel();
+      hash = 31 * hash + inv.getTemperature().hashCode();
+      hash = 31 * hash + (inv.isSimple() ? 1 : 0);
+      return set(stack.getItem(), stack.getCount(), tag, inv.getContents(), inv.getLevel(), inv.getTemperature(), inv.isSimple(), hash);
+    }
+
+    private MissKey set(Item item, int count, @Nullable CompoundNBT tag, ICauldronContents contents, int level, CauldronTemperature temperature, boolean simple, int hash) {
+      this.item = item;
+      this.count = count;
+      this.tag = tag;
+      this.contents = contents;
+      this.level = level;
+      this.temperature = temperature;
+      this.simple = simple;
+      this.hash = hash;
+      return this;
+    }
+
+    /**
+     * Copies this key for storing in the miss cache. NBT is copied as the stack may be modified later
+     * @return  Key copy
+     */
+    private MissKey copy() {
+      return new MissKey().set(item, count, tag == null ? null : tag.copy(), contents, level, temperature, simple, hash);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof MissKey)) {
+        return false;
+      }
+      MissKey key = (MissKey)other;
+      return hash == key.hash && item == key.item && count == key.count && level == key.level
+             && temperature == key.temperature && simple == key.simple
+             && contents.equals(key.contents) && Objects.equals(tag, key.tag);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * Recipe along with the properties used to skip it without calling matches
+   * @param <R>  Recipe type
+   */
+  private static class Candidate<R> {
+    private final R recipe;
+    private final int order;
+    private final int minLevel;
+    private final int maxLevel;
+    /** Content type required by the recipe, null if unknown */
+    @Nullable
+    private final CauldronContentType<?> type;
+
+    private Candidate(R recipe, int order, int minLevel, int maxLevel, @Nullable CauldronContentType<?> type) {
+      this.recipe = recipe;
+      this.order = order;
+      this.minLevel = minLevel;
+      this.maxLevel = maxLevel;
+      this.type = type;
+    }
+
+    /**
+     * Checks if this candidate can possibly match the given contents. Contents are ignored for empty cauldrons
+     * @param level     Cauldron level
+     * @param contents  Cauldron contents
+     * @return  False if the recipe will not match
+     */
+    private boolean canMatch(int level, ICauldronContents contents) {
+      return type == null || level == 0 || contents.contains(type);
+    }
+  }
+}
@@ -13,6 +13,7 @@ import knightminer.inspirations.library.recipe.cauldron.util.DisplayCauldronReci
 import knightminer.inspirations.library.recipe.cauldron.util.TemperaturePredicate;
 import knightminer.inspirations.library.util.ReflectionUtil;
 import knightminer.inspirations.tweaks.recipe.NormalBrewingRecipe;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.item.crafting.IRecipeSerializer;
@@ -33,10 +34,13 @@ import net.minecraftforge.common.brewing.VanillaBrewingRecipe;
 import slimeknights.mantle.recipe.IMultiRecipe;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -72,10 +76,8 @@ public abstract class BrewingCauldronRecipe implements ICauldronRecipe, IMultiRe
       return false;
     }
     // find a matching predicate and we are good
-    return inv.getContents()
-              .get(CauldronContentTypes.POTION)
-              .filter(value -> getResult(value, stack) != Potions.EMPTY)
-              .isPresent();
+    Potion potion = inv.getContents().getOrNull(CauldronContentTypes.POTION);
+    return potion != null && getResult(potion, stack) != Potions.EMPTY;
   }
 
   @Override
@@ -144,8 +146,10 @@ public abstract class BrewingCauldronRecipe implements ICauldronRecipe, IMultiRe
 
   /** Brewing cauldron recipe for the vanilla {@link PotionBrewing} */
   public static class Vanilla extends BrewingCauldronRecipe {
-    /** Last successful match among potion mixes */
-    private Object lastMix;
+    /** Lookup from potion, then reagent item, to output. Built on first use, recipes are recreated on reload */
+    private Map<Potion,Map<Item,Potion>> mixLookup;
+    /** Mixes with reagents that cannot be matched by item alone, in brewing order */
+    private List<Object> complexMixes;
 
     /**
      * Creates a new recipe instance
@@ -156,6 +160,33 @@ public abstract class BrewingCauldronRecipe implements ICauldronRecipe, IMultiRe
       super(id, instant);
     }
 
+    /** Builds the mix lookup from the potion type conversions */
+    private void buildLookup() {
+      Map<Potion,Map<Item,Potion>> lookup = new IdentityHashMap<>();
+      List<Object> complex = new ArrayList<>();
+      // once a potion has a complex mix, later mixes must be tested after it to keep the brewing order
+      Set<Potion> complexInputs = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (Object mix : PotionBrewing.POTION_TYPE_CONVERSIONS) {
+        Potion input = ReflectionUtil.getMixPredicateInput(mix);
+        Ingredient reagent = ReflectionUtil.getMixPredicateReagent(mix);
+        Potion output = ReflectionUtil.getMixPredicateOutput(mix);
+        if (input == null || reagent == null || output == null) {
+          continue;
+        }
+        if (!reagent.isSimple() || complexInputs.contains(input)) {
+          complexInputs.add(input);
+          complex.add(mix);
+        } else {
+          Map<Item,Potion> byItem = lookup.computeIfAbsent(input, key -> new IdentityHashMap<>());
+          for (ItemStack stack : reagent.getMatchingStacks()) {
+            byItem.putIfAbsent(stack.getItem(), output);
+          }
+        }
+      }
+      complexMixes = complex;
+      mixLookup = lookup;
+    }
+
     /**
      * Checks if the given mix predicate matches
      * @param mix  Mix predicate to test
@@ -178,19 +209,21 @@ public abstract class BrewingCauldronRecipe implements ICauldronRecipe, IMultiRe
 
     @Override
     protected Potion getResult(Potion potion, ItemStack stack) {
-      // try last mix first
-      if (lastMix != null) {
-        Potion output = tryMix(lastMix, potion, stack);
-        if (output != Potions.EMPTY) {
+      if (mixLookup == null) {
+        buildLookup();
+      }
+      // simple mixes only need the item
+      Map<Item,Potion> byItem = mixLookup.get(potion);
+      if (byItem != null) {
+        Potion output = byItem.get(stack.getItem());
+        if (output != null) {
           return output;
         }
       }
-
-      // try to find a new predicate among the list
-      for (Object mix : PotionBrewing.POTION_TYPE_CONVERSIONS) {
+      // fallback to testing complex mixes
+      for (Object mix : complexMixes) {
         Potion output = tryMix(mix, potion, stack);
         if (output != Potions.EMPTY) {
-          lastMix = mix;
           return output;
         }
       }
@@ -225,8 +258,8 @@ public abstract class BrewingCauldronRecipe implements ICauldronRecipe, IMultiRe
     /** Cached map of items for each potion */
     private final Map<Potion,ItemStack> potionItemLookup = new IdentityHashMap<>();
 
-    /** Last successful match among potion mixes */
-    private IBrewingRecipe lastRecipe;
+    /** Results for reagents without NBT, by potion then reagent item. Includes misses as {@link Potions#EMPTY} */
+    private final Map<Potion,Map<Item,Potion>> resultCache = new IdentityHashMap<>();
 
     /**
      * Creates a new recipe instance
@@ -252,16 +285,15 @@ public abstract class BrewingCauldronRecipe implements ICauldronRecipe, IMultiRe
       return Potions.EMPTY;
     }
 
-    @Override
-    protected Potion getResult(Potion potion, ItemStack stack) {
+    /**
+     * Finds the result by trying each brewing recipe
+     * @param potion  Potion input
+     * @param stack   Stack input
+     * @return  Resulting potion, or empty if no recipe
+     */
+    private Potion findResult(Potion potion, ItemStack stack) {
       // first, make a stack from the potion
       ItemStack input = potionItemLookup.computeIfAbsent(potion, POTION_ITEM_MAPPER);
-      if (lastRecipe != null) {
-        Potion output = tryRecipe(lastRecipe, input, stack);
-        if (output != Potions.EMPTY) {
-          return output;
-        }
-      }
       // try each brewing recipe in the registry
       for (IBrewingRecipe recipe : BrewingRecipeRegistry.getRecipes()) {
         // skip vanilla recipe, we handle that separately for efficiency
@@ -270,13 +302,27 @@ public abstract class BrewingCauldronRecipe implements ICauldronRecipe, IMultiRe
         }
         Potion output = tryRecipe(recipe, input, stack);
         if (output != Potions.EMPTY) {
-          lastRecipe = recipe;
           return output;
         }
       }
       return Potions.EMPTY;
     }
 
+    @Override
+    protected Potion getResult(Potion potion, ItemStack stack) {
+      // NBT may change the result, so cannot be cached by item
+      if (stack.hasTag()) {
+        return findResult(potion, stack);
+      }
+      Map<Item,Potion> byItem = resultCache.computeIfAbsent(potion, key -> new IdentityHashMap<>());
+      Potion output = byItem.get(stack.getItem());
+      if (output == null) {
+        output = findResult(potion, stack);
+        byItem.put(stack.getItem(), output);
+      }
+      return output;
+    }
+
     @Override
     protected List<DisplayCauldronRecipe> getDisplayRecipes() {
       List<IBrewingRecipe> recipes = BrewingRecipeRegistry.getRecipes();
@@ -54,10 +54,11 @@ public class DyeCauldronWaterRecipe implements ICauldronRecipe, ICauldronRecipeD
     // can dye water and other dyes
     // cannot dye if already that color
     ICauldronContents contents = inv.getContents();
-    return contents.contains(CauldronContentTypes.FLUID, Fluids.WATER)
-           || contents.get(CauldronContentTypes.COLOR)
-                      .filter(color -> color != dye.getColorValue())
-                      .isPresent();
+    if (contents.contains(CauldronContentTypes.FLUID, Fluids.WATER)) {
+      return true;
+    }
+    Integer color = contents.getOrNull(CauldronContentTypes.COLOR);
+    return color != null && color != dye.getColorValue();
   }
 
   @Override
@@ -42,10 +42,11 @@ public class EmptyBucketCauldronRecipe implements ICauldronRecipe {
     }
 
     // if filled, drain a specific fluid
-    return inv.getContents()
-              .get(CauldronContentTypes.FLUID)
-              .map(fluid -> handler.drain(new FluidStack(fluid, BUCKET_VOLUME), action))
-              .orElse(FluidStack.EMPTY);
+    Fluid fluid = inv.getContents().getOrNull(CauldronContentTypes.FLUID);
+    if (fluid == null) {
+      return FluidStack.EMPTY;
+    }
+    return handler.drain(new FluidStack(fluid, BUCKET_VOLUME), action);
   }
 
   @Override
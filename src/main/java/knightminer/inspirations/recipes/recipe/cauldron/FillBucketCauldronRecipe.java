@@ -55,11 +55,12 @@ public class FillBucketCauldronRecipe implements ICauldronRecipe {
       stack = inv.getStack();
     }
     // must be a fluid
-    return inv.getContents()
-              .get(CauldronContentTypes.FLUID)
-              // handler must be fillable with the given fluid and must take 1000mb
-              .flatMap(fluid -> FluidUtil.getFluidHandler(stack).filter(handler -> tryFill(handler, fluid, FluidAction.SIMULATE)))
-              .isPresent();
+    Fluid fluid = inv.getContents().getOrNull(CauldronContentTypes.FLUID);
+    if (fluid == null) {
+      return false;
+    }
+    // handler must be fillable with the given fluid and must take 1000mb
+    return FluidUtil.getFluidHandler(stack).filter(handler -> tryFill(handler, fluid, FluidAction.SIMULATE)).isPresent();
   }
 
   @Override
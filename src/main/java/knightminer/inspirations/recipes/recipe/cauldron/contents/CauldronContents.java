@@ -32,13 +32,19 @@ public class CauldronContents<C> implements ICauldronContents {
     this.value = value;
   }
 
-  @SuppressWarnings("unchecked")
   @Override
   public <T> Optional<T> get(CauldronContentType<T> type) {
+    return Optional.ofNullable(getOrNull(type));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Nullable
+  @Override
+  public <T> T getOrNull(CauldronContentType<T> type) {
     if (type == this.type) {
-      return Optional.of((T)this.value);
+      return (T)this.value;
     }
-    return type.getOverrideValue(this);
+    return type.getOverrideValueOrNull(this);
   }
 
   @Override
@@ -59,10 +65,7 @@ public class CauldronContents<C> implements ICauldronContents {
 
   @Override
   public CompoundNBT toNBT() {
-    CompoundNBT nbt = new CompoundNBT();
-    nbt.putString(CauldronContentTypes.KEY_TYPE, CauldronContentTypes.getName(type).toString());
-    type.write(value, nbt);
-    return nbt;
+    return CauldronContentTypes.toNBT(this);
   }
 
   @Override
@@ -3,7 +3,9 @@ package knightminer.inspirations.recipes.recipe.cauldron.contents;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
 import knightminer.inspirations.Inspirations;
+import it.unimi.dsi.fastutil.HashCommon;
 import knightminer.inspirations.library.recipe.cauldron.contents.CauldronContentType;
+import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
 import net.minecraft.client.util.ITooltipFlag;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
@@ -17,6 +19,7 @@ import net.minecraftforge.common.util.Constants.NBT;
 
 import javax.annotation.Nullable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Content type for colors in the cauldron
@@ -24,6 +27,34 @@ import java.util.List;
 public class ColorContentType extends CauldronContentType<Integer> {
   private static final ResourceLocation TEXTURE_NAME = Inspirations.getResource("color");
   private static final String TRANSLATION_KEY = Util.makeTranslationKey("cauldron_contents", Inspirations.getResource("color"));
+  /** Number of slots in the color lookup, must be a power of 2 */
+  private static final int SLOTS = 256;
+
+  /** Recently used colors, avoids boxing and a map lookup when the same colors are mixed repeatedly */
+  private final AtomicReferenceArray<ColorSlot> recent = new AtomicReferenceArray<>(SLOTS);
+
+  /**
+   * Gets contents for the given color without boxing if the color was recently used. Safe to call from any thread
+   * @param color  Color value
+   * @return  Color contents
+   */
+  public ICauldronContents of(int color) {
+    int index = HashCommon.mix(color) & (SLOTS - 1);
+    ColorSlot slot = recent.get(index);
+    if (slot != null && slot.color == color) {
+      return slot.contents;
+    }
+    ICauldronContents contents = of(Integer.valueOf(color));
+    recent.set(index, new ColorSlot(color, contents));
+    return contents;
+  }
+
+  @Override
+  public void setResult(Integer value, ICauldronContents instance) {
+    super.setResult(value, instance);
+    int index = HashCommon.mix(value) & (SLOTS - 1);
+    recent.set(index, null);
+  }
 
   /**
    * Gets the color as a hex string
@@ -84,12 +115,21 @@ public class ColorContentType extends CauldronContentType<Integer> {
   @Nullable
   @Override
   public Integer read(CompoundNBT tag) {
+    if (tag.contains(getKey(), NBT.TAG_INT)) {
+      return tag.getInt(getKey());
+    }
+    // legacy format stored a hex string
     if (tag.contains(getKey(), NBT.TAG_STRING)) {
       return getValue(tag.getString(getKey()));
     }
     return null;
   }
 
+  @Override
+  public void write(Integer color, CompoundNBT tag) {
+    tag.putInt(getKey(), color);
+  }
+
   @Override
   public Integer read(PacketBuffer buffer) {
     return buffer.readInt();
@@ -124,4 +164,15 @@ public class ColorContentType extends CauldronContentType<Integer> {
       tooltip.add(getColorTooltip(value));
     }
   }
+
+  /** Entry in the recent color lookup */
+  private static class ColorSlot {
+    private final int color;
+    private final ICauldronContents contents;
+
+    private ColorSlot(int color, ICauldronContents contents) {
+      this.color = color;
+      this.contents = contents;
+    }
+  }
 }
@@ -11,6 +11,8 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -23,6 +25,8 @@ public class TileCauldronInventory extends CauldronItemInventory {
   private ICauldronContents newContents = null;
   private int newLevel = -1;
   private boolean silent = false;
+  /** Sounds requested while silent, so they can be played if the result is kept */
+  private final List<SoundEvent> silencedSounds = new ArrayList<>();
   public TileCauldronInventory(CauldronTileEntity tile) {
     this.tile = tile;
   }
@@ -34,7 +38,9 @@ public class TileCauldronInventory extends CauldronItemInventory {
 
   @Override
   public void playSound(SoundEvent sound) {
-    if (!silent) {
+    if (silent) {
+      silencedSounds.add(sound);
+    } else {
       World world = tile.getWorld();
       if (world != null) {
         world.playSound(null, tile.getPos(), sound, SoundCategory.BLOCKS, 1.0f, 1.0f);
@@ -42,6 +48,19 @@ public class TileCauldronInventory extends CauldronItemInventory {
     }
   }
 
+  /**
+   * Plays all sounds requested while silent in the current context, used once a silent result is kept
+   */
+  public void playSilencedSounds() {
+    boolean wasSilent = silent;
+    silent = false;
+    for (SoundEvent sound : silencedSounds) {
+      playSound(sound);
+    }
+    silencedSounds.clear();
+    silent = wasSilent;
+  }
+
   /* Item handling */
 
   /** Clears any cached data. Basically common logic between set context and clear context */
@@ -49,6 +68,7 @@ public class TileCauldronInventory extends CauldronItemInventory {
     this.newLevel = -1;
     this.newContents = null;
     this.silent = false;
+    this.silencedSounds.clear();
   }
 
   /**
@@ -74,6 +94,14 @@ public class TileCauldronInventory extends CauldronItemInventory {
     this.silent = silent;
   }
 
+  /**
+   * Sets whether sounds are played for the current context. Must be called after setting the context
+   * @param silent  If true, no sounds will be played
+   */
+  public void setSilent(boolean silent) {
+    this.silent = silent;
+  }
+
   /**
    * Clears any context specific data from the wrapper
    */
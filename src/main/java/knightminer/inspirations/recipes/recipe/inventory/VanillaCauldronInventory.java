@@ -1,11 +1,11 @@
 package knightminer.inspirations.recipes.recipe.inventory;
 
 import knightminer.inspirations.Inspirations;
-import knightminer.inspirations.library.recipe.RecipeTypes;
 import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
 import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
 import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
 import knightminer.inspirations.library.recipe.cauldron.util.CauldronTemperature;
+import knightminer.inspirations.recipes.recipe.CauldronRecipeIndex;
 import knightminer.inspirations.recipes.tileentity.CauldronTileEntity;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -17,13 +17,13 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 
-import java.util.Optional;
+import javax.annotation.Nullable;
 import java.util.function.Consumer;
 
 public class VanillaCauldronInventory extends CauldronItemInventory {
-  private final World world;
-  private final BlockPos pos;
-  private final BlockState state;
+  private World world;
+  private BlockPos pos;
+  private BlockState state;
 
   // cached temperate value
   private CauldronTemperature temperature;
@@ -56,6 +56,40 @@ public class VanillaCauldronInventory extends CauldronItemInventory {
     this(world, pos, state, stack, EMPTY_CONSUMER, itemAdder);
   }
 
+  /**
+   * Creates an inventory with no cauldron, for reuse through {@link #update(World, BlockPos, BlockState, ItemStack, Consumer)}
+   */
+  public VanillaCauldronInventory() {
+    this.world = null;
+    this.pos = BlockPos.ZERO;
+    this.state = Blocks.CAULDRON.getDefaultState();
+  }
+
+  /**
+   * Points this inventory at a new cauldron, allowing a single instance to be reused. Will use {@link #getStack()} to update stacks
+   * @param world       World containing the cauldron
+   * @param pos         Position of the cauldron
+   * @param state       Cauldron block state
+   * @param stack       Item stack used to interact
+   * @param itemAdder   Logic to give the context a new item stack
+   */
+  public void update(World world, BlockPos pos, BlockState state, ItemStack stack, Consumer<ItemStack> itemAdder) {
+    this.world = world;
+    this.pos = pos;
+    this.state = state;
+    this.stack = stack;
+    this.itemSetter = EMPTY_CONSUMER;
+    this.itemAdder = itemAdder;
+    this.temperature = null;
+  }
+
+  /**
+   * Clears the world and item references, so a reused inventory does not keep them loaded
+   */
+  public void clear() {
+    update(null, BlockPos.ZERO, Blocks.CAULDRON.getDefaultState(), ItemStack.EMPTY, EMPTY_CONSUMER);
+  }
+
   @Override
   public boolean isSimple() {
     return true;
@@ -114,11 +148,23 @@ public class VanillaCauldronInventory extends CauldronItemInventory {
    * @return  True if a recipe happened, false otherwise
    */
   public boolean handleRecipe() {
-    Optional<ICauldronRecipe> recipe = world.getRecipeManager().getRecipe(RecipeTypes.CAULDRON, this, world);
-    if (recipe.isPresent()) {
-      recipe.get().handleRecipe(this);
-      return true;
+    return handleRecipe(null) != null;
+  }
+
+  /**
+   * Handles the recipe using this object as the context, trying the given recipe before searching all recipes
+   * @param lastRecipe  Recipe that matched last time, null if unknown
+   * @return  Recipe that was run, or null if no recipe matched
+   */
+  @Nullable
+  public ICauldronRecipe handleRecipe(@Nullable ICauldronRecipe lastRecipe) {
+    ICauldronRecipe recipe = lastRecipe;
+    if (recipe == null || !recipe.matches(this, world)) {
+      recipe = CauldronRecipeIndex.findRecipe(world, this);
+    }
+    if (recipe != null) {
+      recipe.handleRecipe(this);
     }
-    return false;
+    return recipe;
   }
 }
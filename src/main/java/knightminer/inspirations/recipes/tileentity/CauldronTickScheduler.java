@@ -0,0 +1,122 @@
+package knightminer.inspirations.recipes.tileentity;
+
+import knightminer.inspirations.Inspirations;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Wakes cauldrons on a timing wheel, so only cauldrons with a pending or in progress transform take tick time.
+ * Unlike block ticks, a cauldron may be woken earlier than an already scheduled wake up, the later one is skipped when it comes due.
+ */
+@EventBusSubscriber(modid = Inspirations.modID, bus = Bus.FORGE)
+public class CauldronTickScheduler {
+  /** Number of slots in the timing wheel, must be a power of two */
+  private static final int WHEEL_SIZE = 64;
+  /** Timing wheel for each world */
+  private static final Map<ServerWorld,Wheel> WHEELS = new HashMap<>();
+
+  private CauldronTickScheduler() {}
+
+  /**
+   * Schedules the cauldron to tick at the given time. The cauldron is only ticked if this is still its latest scheduled time
+   * @param cauldron  Cauldron to tick
+   * @param tick      Game time to tick the cauldron
+   */
+  static void schedule(CauldronTileEntity cauldron, long tick) {
+    World world = cauldron.getWorld();
+    if (world instanceof ServerWorld) {
+      WHEELS.computeIfAbsent((ServerWorld)world, w -> new Wheel()).schedule(new WakeUp(cauldron, tick));
+    }
+  }
+
+  /** Ticks all cauldrons due this tick */
+  @SubscribeEvent
+  public static void worldTick(WorldTickEvent event) {
+    if (event.phase == Phase.END && event.world instanceof ServerWorld) {
+      Wheel wheel = WHEELS.get(event.world);
+      if (wheel != null) {
+        wheel.tick(event.world.getGameTime());
+      }
+    }
+  }
+
+  /** Drops cauldrons for unloaded worlds */
+  @SubscribeEvent
+  public static void worldUnload(WorldEvent.Unload event) {
+    if (event.getWorld() instanceof ServerWorld) {
+      WHEELS.remove(event.getWorld());
+    }
+  }
+
+  /** Single scheduled tick for a cauldron */
+  private static class WakeUp {
+    private final CauldronTileEntity cauldron;
+    private final long tick;
+
+    private WakeUp(CauldronTileEntity cauldron, long tick) {
+      this.cauldron = cauldron;
+      this.tick = tick;
+    }
+  }
+
+  /** Scheduled cauldrons for a single world */
+  private static class Wheel {
+    /** Wake ups by scheduled tick modulo the wheel size */
+    @SuppressWarnings("unchecked")
+    private final List<WakeUp>[] slots = new List[WHEEL_SIZE];
+    /** Empty list swapped in while a slot runs, so cauldrons scheduled during the run are not lost */
+    private List<WakeUp> spare = new ArrayList<>();
+
+    private Wheel() {
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        slots[i] = new ArrayList<>();
+      }
+    }
+
+    /**
+     * Adds the wake up to the wheel
+     * @param wakeUp  Wake up to schedule
+     */
+    private void schedule(WakeUp wakeUp) {
+      slots[(int)(wakeUp.tick & (WHEEL_SIZE - 1))].add(wakeUp);
+    }
+
+    /**
+     * Ticks cauldrons scheduled for the given time
+     * @param time  Current game time
+     */
+    private void tick(long time) {
+      int index = (int)(time & (WHEEL_SIZE - 1));
+      List<WakeUp> due = slots[index];
+      if (due.isEmpty()) {
+        return;
+      }
+      slots[index] = spare;
+      for (WakeUp wakeUp : due) {
+        // scheduled for a later turn of the wheel
+        if (wakeUp.tick > time) {
+          slots[index].add(wakeUp);
+          continue;
+        }
+        // skip cauldrons that were removed or rescheduled since
+        CauldronTileEntity cauldron = wakeUp.cauldron;
+        if (!cauldron.isRemoved() && cauldron.getScheduledTick() == wakeUp.tick) {
+          cauldron.tick();
+        }
+      }
+      due.clear();
+      spare = due;
+    }
+  }
+}
@@ -2,12 +2,9 @@ package knightminer.inspirations.recipes.tileentity;
 
 import knightminer.inspirations.Inspirations;
 import knightminer.inspirations.common.Config;
-import knightminer.inspirations.common.network.CauldronStateUpdatePacket;
-import knightminer.inspirations.common.network.CauldronTransformUpatePacket;
-import knightminer.inspirations.common.network.InspirationsNetwork;
+import knightminer.inspirations.common.network.CauldronUpdateQueue;
 import knightminer.inspirations.library.InspirationsTags;
 import knightminer.inspirations.library.Util;
-import knightminer.inspirations.library.recipe.RecipeTypes;
 import knightminer.inspirations.library.recipe.cauldron.CauldronContentTypes;
 import knightminer.inspirations.library.recipe.cauldron.contents.ICauldronContents;
 import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronRecipe;
@@ -15,8 +12,11 @@ import knightminer.inspirations.library.recipe.cauldron.recipe.ICauldronTransfor
 import knightminer.inspirations.library.recipe.cauldron.util.CauldronTemperature;
 import knightminer.inspirations.recipes.InspirationsRecipes;
 import knightminer.inspirations.recipes.block.EnhancedCauldronBlock;
+import knightminer.inspirations.recipes.recipe.CauldronRecipeIndex;
 import knightminer.inspirations.recipes.recipe.inventory.CauldronItemInventory;
 import knightminer.inspirations.recipes.recipe.inventory.TileCauldronInventory;
+import knightminer.inspirations.recipes.tileentity.capability.CauldronFluidHandler;
+import knightminer.inspirations.recipes.tileentity.capability.CauldronItemHandler;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.Entity;
@@ -30,12 +30,10 @@ import net.minecraft.potion.EffectInstance;
 import net.minecraft.potion.Potion;
 import net.minecraft.state.properties.BlockStateProperties;
 import net.minecraft.tags.FluidTags;
-import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.Direction;
-import net.minecraft.util.Direction.Axis;
 import net.minecraft.util.Hand;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
@@ -46,10 +44,18 @@ import net.minecraft.world.World;
 import net.minecraftforge.client.model.data.IModelData;
 import net.minecraftforge.client.model.data.ModelDataMap;
 import net.minecraftforge.client.model.data.ModelProperty;
+import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.recipe.RecipeHelper;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -57,7 +63,7 @@ import java.util.function.Consumer;
 /**
  * Tile entity logic for the cauldron, handles more complex content types
  */
-public class CauldronTileEntity extends TileEntity implements ITickableTileEntity {
+public class CauldronTileEntity extends TileEntity {
   private static final DamageSource DAMAGE_BOIL = new DamageSource(Inspirations.prefix("boiling")).setDamageBypassesArmor();
   public static final ModelProperty<ResourceLocation> TEXTURE = new ModelProperty<>();
   public static final ModelProperty<Boolean> FROSTED = new ModelProperty<>();
@@ -71,12 +77,10 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
   private final TileCauldronInventory craftingInventory = new TileCauldronInventory(this);
 
   // capabilities
-  /* TODO: have to determine what sort of automation I want, waiting on dispenser stuff
   private final CauldronItemHandler itemHandler = new CauldronItemHandler(this, craftingInventory);
   private final LazyOptional<IItemHandler> itemHandlerCap = LazyOptional.of(() -> itemHandler);
   private final CauldronFluidHandler fluidHandler = new CauldronFluidHandler(this);
   private final LazyOptional<IFluidHandler> fluidHandlerCap = LazyOptional.of(() -> fluidHandler);
-   */
 
   // cauldron properties
   /** Current cauldron contents */
@@ -90,15 +94,28 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
   private ICauldronRecipe lastRecipe;
 
   // temperature cache
-  /** If true, the cauldron is above a block that makes it boil */
-  private Boolean isBoiling;
-  /** If true, the cauldron is surrounded by blocks that make it freeze */
-  private Boolean isFreezing;
+  /** Bit for fire below the cauldron in {@link #neighbors} */
+  private static final int FIRE_BELOW = 1 << Direction.DOWN.getIndex();
+  /** Bits for ice on the north and south sides in {@link #neighbors} */
+  private static final int ICE_NORTH_SOUTH = 1 << Direction.NORTH.getIndex() | 1 << Direction.SOUTH.getIndex();
+  /** Bits for ice on the west and east sides in {@link #neighbors} */
+  private static final int ICE_WEST_EAST = 1 << Direction.WEST.getIndex() | 1 << Direction.EAST.getIndex();
+  /** Bitmask of neighbors affecting temperature, indexed by direction. Fire below, ice on the sides. -1 if not yet scanned */
+  private int neighbors = -1;
+  /** Temperature from the biome and dimension, ignoring neighbors */
+  private CauldronTemperature ambientTemperature;
   /** Last temperature of the cauldron */
   private CauldronTemperature temperature;
 
   // transform recipes
+  /** Ticks between checks while the chunk is loaded but not ticking */
+  private static final int LAZY_CHUNK_DELAY = 20;
+  /** Transform progress from NBT, used until the world is available */
   private int timer;
+  /** Game time the current transform started, -1 if not yet known */
+  private long transformStart = -1;
+  /** Game time this cauldron is next ticked by the {@link CauldronTickScheduler}, -1 if not scheduled */
+  private long scheduledTick = -1;
   /** Name of the in progress transform recipe */
   private ResourceLocation currentTransformName;
   /** Transform recipe currently in progress */
@@ -176,8 +193,9 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
    */
   private void contentsChanged() {
     this.updateTransform = true;
-    //this.itemHandler.clearCache();
-    //this.tank.clearCache();
+    this.wakeTransform();
+    this.itemHandler.clearCache();
+    this.fluidHandler.clearCache();
   }
 
   /**
@@ -242,7 +260,7 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
     // if either changed, send a packet
     if (levelOffset != this.levelOffset || contents != null) {
       this.levelOffset = levelOffset;
-      InspirationsNetwork.sendToClients(world, pos, new CauldronStateUpdatePacket(pos, contents, levelOffset));
+      CauldronUpdateQueue.queueState(world, pos, contents, levelOffset);
       this.contentsChanged();
     }
   }
@@ -312,17 +330,41 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
   }
 
   /**
-   * Calculates and caches the temperature
+   * Calculates the temperature
    * @return  Calculated temperature for the world and positions
    */
   public static CauldronTemperature calcTemperature(IWorld world, BlockPos pos, boolean boiling, boolean freezing) {
+    // only fetch the ambient temperature if the neighbors do not decide it
+    if (boiling || freezing) {
+      return calcTemperature(CauldronTemperature.NORMAL, boiling, freezing);
+    }
+    return calcAmbientTemperature(world, pos);
+  }
+
+  /**
+   * Calculates the temperature from neighbors
+   * @param ambient   Temperature from {@link #calcAmbientTemperature(IWorld, BlockPos)}
+   * @param boiling   If true, the cauldron is above fire
+   * @param freezing  If true, the cauldron is surrounded by ice
+   * @return  Calculated temperature
+   */
+  private static CauldronTemperature calcTemperature(CauldronTemperature ambient, boolean boiling, boolean freezing) {
     // overrides from neighbors
     if (boiling) {
       return freezing ? CauldronTemperature.NORMAL : CauldronTemperature.BOILING;
     }
     // freezing is freezing of course
     if (freezing) return CauldronTemperature.FREEZING;
+    return ambient;
+  }
 
+  /**
+   * Calculates the temperature from the biome and dimension, which does not change for a position
+   * @param world  World
+   * @param pos    Cauldron position
+   * @return  Ambient temperature
+   */
+  private static CauldronTemperature calcAmbientTemperature(IWorld world, BlockPos pos) {
     // boil if water evaporates
     if (world.getDimensionType().isUltrawarm()) {
       return CauldronTemperature.BOILING;
@@ -335,6 +377,31 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
     return CauldronTemperature.NORMAL;
   }
 
+  /**
+   * Gets the bit for the given neighbor in {@link #neighbors}
+   * @param direction  Side of the neighbor
+   * @param state      Neighbor state
+   * @return  Neighbor bit, or 0 if the neighbor does not affect temperature
+   */
+  private static int getNeighborBit(Direction direction, BlockState state) {
+    if (direction == Direction.DOWN) {
+      return isCauldronFire(state) ? FIRE_BELOW : 0;
+    }
+    if (direction != Direction.UP && state.isIn(InspirationsTags.Blocks.CAULDRON_ICE)) {
+      return 1 << direction.getIndex();
+    }
+    return 0;
+  }
+
+  /**
+   * Calculates the temperature from the cached neighbors and ambient temperature
+   * @return  Temperature
+   */
+  private CauldronTemperature calcTemperature() {
+    boolean freezing = (neighbors & ICE_NORTH_SOUTH) == ICE_NORTH_SOUTH || (neighbors & ICE_WEST_EAST) == ICE_WEST_EAST;
+    return calcTemperature(ambientTemperature, (neighbors & FIRE_BELOW) != 0, freezing);
+  }
+
   /**
    * Gets the current cauldron temperature
    * @param updateModelData  If true, updates model data on change
@@ -344,14 +411,20 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
     if (world == null) {
       return CauldronTemperature.NORMAL;
     }
-    // if no temperature cache, calculate
+    // if no temperature cache, scan neighbors once, later changes come from neighborChanged
     if (temperature == null) {
-      // ensure we have cached freezing and boiling
-      if (isBoiling == null) isBoiling = isCauldronFire(world.getBlockState(pos.down()));
-      if (isFreezing == null) isFreezing = isFreezing(world, pos);
-      temperature = calcTemperature(world, pos, isBoiling, isFreezing);
-      data.setData(FROSTED, temperature == CauldronTemperature.FREEZING);
-      if (updateModelData) requestModelDataUpdate();
+      if (ambientTemperature == null) {
+        ambientTemperature = calcAmbientTemperature(world, pos);
+      }
+      if (neighbors == -1) {
+        neighbors = 0;
+        for (Direction direction : Direction.values()) {
+          if (direction != Direction.UP) {
+            neighbors |= getNeighborBit(direction, world.getBlockState(pos.offset(direction)));
+          }
+        }
+      }
+      setTemperature(calcTemperature(), updateModelData);
     }
     // return cached value
     return temperature;
@@ -367,39 +440,44 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
 
 
   /**
-   * Gets the direction based on the given offset
-   * @param offset  Offset
-   * @return  Direction based on position offset
+   * Updates the cached temperature and model data
+   * @param temperature      New temperature
+   * @param updateModelData  If true, updates model data on change
    */
-  private static Direction getDirection(BlockPos offset) {
-    for (Direction direction : Direction.values()) {
-      if (direction.getDirectionVec().equals(offset)) {
-        return direction;
-      }
-    }
-    return Direction.UP;
+  private void setTemperature(CauldronTemperature temperature, boolean updateModelData) {
+    this.temperature = temperature;
+    data.setData(FROSTED, temperature == CauldronTemperature.FREEZING);
+    if (updateModelData) requestModelDataUpdate();
   }
 
   /**
-   * Called when a neighbor changes to invalidate the temperature cache
-   * @param neighbor  Neighbor that changed
+   * Called when a neighbor changes to update the temperature cache
+   * @param direction  Side of the neighbor that changed
+   * @param state      New neighbor state
    */
-  public void neighborChanged(BlockPos neighbor) {
-    Direction direction = getDirection(neighbor.subtract(pos));
-    CauldronTemperature oldTemperature = temperature;
-    if (direction == Direction.DOWN) {
-      isBoiling = null;
-      temperature = null;
-      this.contentsChanged();
-    } else if (direction.getAxis() != Axis.Y) {
-      isFreezing = null;
-      temperature = null;
+  public void neighborChanged(Direction direction, BlockState state) {
+    if (direction == Direction.UP) {
+      return;
+    }
+    // neighbors not yet scanned, so nothing cached depends on them
+    if (neighbors == -1 || temperature == null) {
       this.contentsChanged();
+      return;
     }
-    // on the client, immediately update temperature
-    if (world != null && world.isRemote) {
-      temperature = getTemperature();
-      if (temperature != oldTemperature) {
+
+    // update just the changed bit
+    int bit = 1 << direction.getIndex();
+    int newNeighbors = (neighbors & ~bit) | getNeighborBit(direction, state);
+    if (newNeighbors == neighbors) {
+      return;
+    }
+    neighbors = newNeighbors;
+    CauldronTemperature newTemperature = calcTemperature();
+    if (newTemperature != temperature) {
+      setTemperature(newTemperature, true);
+      this.contentsChanged();
+      // on the client, immediately update the model
+      if (world != null && world.isRemote) {
         Util.notifyClientUpdate(this);
       }
     }
@@ -418,7 +496,7 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
       return lastRecipe;
     }
     // fall back to finding a new recipe
-    ICauldronRecipe recipe = world.getRecipeManager().getRecipe(RecipeTypes.CAULDRON, craftingInventory, world).orElse(null);
+    ICauldronRecipe recipe = CauldronRecipeIndex.findRecipe(world, craftingInventory);
     if (recipe != null) {
       lastRecipe = recipe;
       return recipe;
@@ -436,6 +514,19 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
    * @return  True if the recipe matched, false otherwise
    */
   private boolean handleRecipe(ItemStack stack, @Nullable Consumer<ItemStack> itemSetter, Consumer<ItemStack> itemAdder) {
+    return handleRecipe(stack, itemSetter, itemAdder, false);
+  }
+
+  /**
+   * Handles a cauldron recipe. Will do everything except update the cauldron level and clear the context.
+   * The caller is responsible for handling those (as each caller has different needs)
+   * @param stack         Stack to match for recipes
+   * @param itemSetter    Logic to update the stack in the context. If null, have to manually handle item setting (for dispensers)
+   * @param itemAdder     Logic to add a new stack to the context
+   * @param batch         If true, runs the recipe as many times as the stack and level allow
+   * @return  True if the recipe matched, false otherwise
+   */
+  private boolean handleRecipe(ItemStack stack, @Nullable Consumer<ItemStack> itemSetter, Consumer<ItemStack> itemAdder, boolean batch) {
     if (world == null) {
       return false;
     }
@@ -449,7 +540,11 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
     if (recipe != null) {
       success = true;
       if (!world.isRemote) {
-        recipe.handleRecipe(craftingInventory);
+        if (batch) {
+          recipe.handleRecipe(craftingInventory, recipe.getMaxCrafts(craftingInventory));
+        } else {
+          recipe.handleRecipe(craftingInventory);
+        }
       }
     }
     return success;
@@ -497,7 +592,27 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
   }
 
   private static final String TAG_CAULDRON_CRAFTED = "cauldron_crafted";
-  private static final String TAG_CAULDRON_COOLDOWN = "cauldron_cooldown";
+
+  /**
+   * Adds a stack to the list, merging it into existing stacks where possible
+   * @param stacks  Stack list
+   * @param stack   Stack to add
+   */
+  private static void mergeStack(List<ItemStack> stacks, ItemStack stack) {
+    for (ItemStack existing : stacks) {
+      if (ItemHandlerHelper.canItemStacksStack(existing, stack)) {
+        int moved = Math.min(stack.getCount(), existing.getMaxStackSize() - existing.getCount());
+        if (moved > 0) {
+          existing.grow(moved);
+          stack.shrink(moved);
+          if (stack.isEmpty()) {
+            return;
+          }
+        }
+      }
+    }
+    stacks.add(stack);
+  }
 
   /**
    * Called when an entity collides with the cauldron
@@ -520,27 +635,18 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
         return level;
       }
 
-      // otherwise, if it has a cooldown, reduce the cooldown
-      int cooldown = entityTags.getInt(TAG_CAULDRON_COOLDOWN);
-      if (cooldown > 0) {
-        entityTags.putInt(TAG_CAULDRON_COOLDOWN, cooldown - 1);
-        return level;
-      }
-
-      // run recipe.
+      // run recipe. Repeated misses are cheap as the recipe index remembers inputs with no recipe
+      // we do not just set crafted on failure as that would prevent dropping in items one at a time where multiple are required
       // We need to copy when setting the item, to force it to update.
-      boolean success = handleRecipe(entityItem.getItem(), stack -> entityItem.setItem(stack.copy()), stack -> {
-        ItemEntity newItem = new ItemEntity(world, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, stack);
-        newItem.getPersistentData().putBoolean(CauldronTileEntity.TAG_CAULDRON_CRAFTED, true);
-        newItem.setDefaultPickupDelay();
-        world.addEntity(newItem);
-      });
+      // outputs are merged and spawned after crafting, so a batch of crafts spawns one entity per stack
+      List<ItemStack> outputs = new ArrayList<>();
+      boolean success = handleRecipe(entityItem.getItem(), stack -> entityItem.setItem(stack.copy()), stack -> mergeStack(outputs, stack), true);
 
       // on success, run the recipe a few more times
       if (success) {
         int matches = 0;
         while (lastRecipe.matches(craftingInventory, world) && matches < 64) {
-          lastRecipe.handleRecipe(craftingInventory);
+          lastRecipe.handleRecipe(craftingInventory, lastRecipe.getMaxCrafts(craftingInventory));
           matches++;
         }
 
@@ -551,16 +657,20 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
         }
       }
 
+      // spawn any outputs
+      for (ItemStack output : outputs) {
+        ItemEntity newItem = new ItemEntity(world, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, output);
+        newItem.getPersistentData().putBoolean(CauldronTileEntity.TAG_CAULDRON_CRAFTED, true);
+        newItem.setDefaultPickupDelay();
+        world.addEntity(newItem);
+      }
+
       // kill entity if empty
       if (entityItem.getItem().isEmpty()) {
         entityItem.remove();
       } else if (success) {
         // if the recipe worked, mark as crafted
         entityTags.putBoolean(TAG_CAULDRON_CRAFTED, true);
-      } else {
-        // set a cooldown to reduce lag, so we are not searching the registry every tick
-        // we do not just set crafted as that would prevent dropping in items one at a time where multiple are required
-        entityTags.putInt(TAG_CAULDRON_COOLDOWN, 60);
       }
 
       // return the final level update
@@ -617,6 +727,85 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
 
   /* Transform recipes */
 
+  /**
+   * Schedules a tick after the given delay, replacing any tick already scheduled. Cauldrons do not tick unless a transform is pending or in progress
+   * @param delay  Ticks to wait
+   */
+  private void scheduleTick(int delay) {
+    if (world != null && !world.isRemote) {
+      scheduledTick = world.getGameTime() + delay;
+      CauldronTickScheduler.schedule(this, scheduledTick);
+    }
+  }
+
+  /**
+   * Gets the game time of the next tick for this cauldron
+   * @return  Scheduled game time, -1 if not scheduled
+   */
+  long getScheduledTick() {
+    return scheduledTick;
+  }
+
+  /**
+   * Schedules a single block tick for when the current transform finishes
+   */
+  private void scheduleTransformTick() {
+    if (currentTransform != null) {
+      scheduleTick(Math.max(1, currentTransform.getTime() - getTimer()));
+    }
+  }
+
+  /**
+   * Schedules a tick for the next game tick to update the transform recipe after a change, so multiple changes are handled together.
+   * Any later scheduled tick is replaced, as the new transform may finish sooner
+   */
+  private void wakeTransform() {
+    if (world != null && !world.isRemote && (scheduledTick == -1 || scheduledTick > world.getGameTime() + 1)) {
+      scheduleTick(1);
+    }
+  }
+
+  /**
+   * Gets the number of ticks the current transform has run. Based on game time, so unlike the old tick counter
+   * the transform also progresses while the chunk is loaded but not ticking, and finishes shortly after the chunk ticks again
+   * @return  Transform ticks
+   */
+  private int getTimer() {
+    if (world == null) {
+      return timer;
+    }
+    // timer is stored as the start time so it does not need to be incremented every tick
+    long time = world.getGameTime();
+    if (transformStart == -1) {
+      transformStart = time - timer;
+    }
+    return (int)(time - transformStart);
+  }
+
+  /**
+   * Restarts the timer for the current transform
+   */
+  private void resetTimer() {
+    timer = 0;
+    transformStart = world == null ? -1 : world.getGameTime();
+  }
+
+  @Override
+  public void onLoad() {
+    super.onLoad();
+    // resume transforms in progress when saved
+    if (currentTransform != null || currentTransformName != null) {
+      wakeTransform();
+    }
+  }
+
+  @Override
+  public void onChunkUnloaded() {
+    super.onChunkUnloaded();
+    // a new tile entity is created if the chunk loads again, so skip any scheduled ticks
+    scheduledTick = -1;
+  }
+
   @Override
   public void updateContainingBlockInfo() {
     super.updateContainingBlockInfo();
@@ -638,7 +827,7 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
     }
 
     // recipe changing means reset the timer
-    timer = 0;
+    resetTimer();
 
     // try to find a recipe
     ICauldronTransform transform = null;
@@ -646,9 +835,9 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
       if (lastTransform != null && lastTransform.matches(craftingInventory, world)) {
         transform = lastTransform;
       } else {
-        Optional<ICauldronTransform> newTransform = world.getRecipeManager().getRecipe(RecipeTypes.CAULDRON_TRANSFORM, craftingInventory, world);
-        if (newTransform.isPresent()) {
-          transform = lastTransform = newTransform.get();
+        ICauldronTransform newTransform = CauldronRecipeIndex.findTransform(world, craftingInventory);
+        if (newTransform != null) {
+          transform = lastTransform = newTransform;
         }
       }
     }
@@ -657,33 +846,41 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
     if (currentTransform != transform) {
       // update and sync to clients
       currentTransform = transform;
-      InspirationsNetwork.sendToClients(world, pos, new CauldronTransformUpatePacket(pos, transform));
+      CauldronUpdateQueue.queueTransform(world, pos, transform);
     }
   }
 
-  @Override
-  public void tick() {
-    if (world == null) {
+  /**
+   * Called from the {@link CauldronTickScheduler} on the server to update and run the transform recipe.
+   * Keeps scheduling ticks while a transform is in progress, idle cauldrons are not ticked
+   */
+  void tick() {
+    if (world == null || world.isRemote) {
+      return;
+    }
+    scheduledTick = -1;
+    // like ticking tile entities, wait while the chunk is loaded but not ticking
+    if (!world.getChunkProvider().canTick(pos)) {
+      scheduleTick(LAZY_CHUNK_DELAY);
       return;
     }
 
     // updates the transform recipe
-    if (updateTransform && !world.isRemote) {
+    if (updateTransform) {
       this.updateTransform();
       updateTransform = false;
     }
 
-    // if we have a recipe
+    // no recipe means no more ticks until the contents change
     if (currentTransform == null) {
       return;
     }
 
-    // timer updates on both sides, easier than syncing
-    timer++;
-
-    // if the recipe is done, run recipe
-    if (!world.isRemote && timer >= currentTransform.getTime()) {
-      timer = 0;
+    // if the recipe is not done, wait for it to finish
+    if (getTimer() < currentTransform.getTime()) {
+      scheduleTransformTick();
+    } else {
+      resetTimer();
 
       // play sound effect, note its before contents update
       SoundEvent sound = currentTransform.getSound();
@@ -692,6 +889,10 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
       // set contents will clear the current transform if no longer current
       // have to pass in level offset as this function is reused a lot, so just use current
       updateState(currentTransform.getContentOutput(craftingInventory), levelOffset);
+      // unchanged contents schedule nothing, so keep repeating the transform
+      if (scheduledTick == -1) {
+        scheduleTransformTick();
+      }
     }
   }
 
@@ -701,7 +902,7 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
    */
   public void setTransformRecipe(@Nullable ICauldronTransform recipe) {
     this.currentTransform = recipe;
-    timer = 0;
+    resetTimer();
   }
 
   /**
@@ -712,7 +913,9 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
     if (currentTransform == null) {
       return 0;
     }
-    return timer * 5 / currentTransform.getTime();
+    // client is not told when a repeating transform finishes, so wrap around
+    int time = currentTransform.getTime();
+    return getTimer() % time * 5 / time;
   }
 
   /*
@@ -756,7 +959,6 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
 
   /* Automation */
 
-  /* TODO: see above
   @Override
   public <T> LazyOptional<T> getCapability(Capability<T> cap, @Nullable Direction side) {
     if (cap == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY) {
@@ -774,7 +976,6 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
     itemHandlerCap.invalidate();
     fluidHandlerCap.invalidate();
   }
-  */
 
   /* NBT */
   private static final String TAG_CONTENTS = "contents";
@@ -785,6 +986,10 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
   @Override
   public void setWorldAndPos(World world, BlockPos pos) {
     super.setWorldAndPos(world, pos);
+    // temperature depends on the location
+    this.neighbors = -1;
+    this.ambientTemperature = null;
+    this.temperature = null;
     // if we have a recipe name, swap recipe name for recipe instance
     if (currentTransformName != null) {
       loadTransform(world, currentTransformName);
@@ -818,7 +1023,7 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
       tags.putString(TAG_TRANSFORM, currentTransformName.toString());
     }
     // update the timer from NBT
-    tags.putInt(TAG_TIMER, timer);
+    tags.putInt(TAG_TIMER, getTimer());
     tags.putInt(TAG_LEVEL_OFFSET, levelOffset);
     return tags;
   }
@@ -850,5 +1055,6 @@ public class CauldronTileEntity extends TileEntity implements ITickableTileEntit
 
     // update the timer from NBT
     timer = tags.getInt(TAG_TIMER);
+    transformStart = -1;
   }
 }
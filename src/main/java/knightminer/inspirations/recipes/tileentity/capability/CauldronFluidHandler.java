@@ -39,12 +39,12 @@ public class CauldronFluidHandler implements IFluidHandler {
       return 0;
     }
 
-    // if more than 3 quarters, block
+    // if less than a quarter of space remains, block
     int level = cauldron.getLevel();
-    if (level < QUARTER * 3) {
+    if (level <= MAX - QUARTER) {
       // if the fluid is different, prevent insertion
       Fluid fluid = stack.getFluid();
-      if (level > 0 || getFluidStack().getFluid() == fluid) {
+      if (level == 0 || getFluidStack().getFluid() == fluid) {
         // determine how much fluid we can insert
         int toInsert = Math.min(getLevels(stack.getAmount()), MAX - level);
         if (toInsert != 0) {
@@ -7,11 +7,13 @@ import knightminer.inspirations.recipes.tileentity.CauldronTileEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 
 import java.util.function.Consumer;
 
 /**
- * Item handler capability for the cauldron. Allows hoppers to perform recipes that do not require an item input (removing ice for instance)
+ * Item handler capability for the cauldron. Allows hoppers to perform recipes that do not require an item input (removing ice for instance),
+ * and to insert items into recipes that consume them without producing items (adding dyes for instance)
  */
 public class CauldronItemHandler implements IItemHandler {
   // properties from the TE
@@ -46,11 +48,12 @@ public class CauldronItemHandler implements IItemHandler {
   private ItemStack handleRecipe(ICauldronRecipe recipe, boolean execute) {
     // try the recipe
     hasSideEffects = false;
-    inventory.setItemHandlerContext(sideEffects, execute);
+    inventory.setItemHandlerContext(sideEffects, !execute);
     recipe.handleRecipe(inventory);
 
     // skip recipe if it has side effects
     if (hasSideEffects) {
+      inventory.clearContext();
       stack = ItemStack.EMPTY;
       currentRecipe = null;
       return stack;
@@ -78,10 +81,12 @@ public class CauldronItemHandler implements IItemHandler {
   private ItemStack getResult() {
     // if stack is null, find a recipe and update the stack
     if (stack == null) {
+      inventory.setItemHandlerContext(sideEffects, true);
       ICauldronRecipe recipe = te.findRecipe();
       if (recipe != null) {
         handleRecipe(recipe, false);
       } else {
+        inventory.clearContext();
         stack = ItemStack.EMPTY;
       }
     }
@@ -103,49 +108,29 @@ public class CauldronItemHandler implements IItemHandler {
 
   @Override
   public ItemStack extractItem(int slot, int amount, boolean simulate) {
-    // simulate can use get result as we do not have to change the cauldron at all
+    // both simulate and extract use the cached result, it is cleared whenever the cauldron changes
+    ItemStack result = getResult();
+    // if the result is too big, do not return
+    if (result.isEmpty() || result.getCount() > amount) {
+      return ItemStack.EMPTY;
+    }
     if (simulate) {
-      // if the result is too big, do not return
-      ItemStack result = getResult();
-      if (result.getCount() > amount) {
-        return ItemStack.EMPTY;
-      }
       return result;
     }
 
-    // use the current recipe if we have one.
-    // validate it later though, don't want to validate if they never ask us to perform the recipe
+    // validate the cached recipe as we are about to extract
     ICauldronRecipe recipe = currentRecipe;
-    boolean needsValidation = true;
-    // try fetching if no recipe
-    // however, if cache is set it means we already failed to find one
-    if (recipe == null && stack == null) {
-      recipe = te.findRecipe();
-      needsValidation = false; // no need to validate, this one matched
-    }
-
-    // if no recipe, return empty
-    if (recipe == null) {
-      stack = ItemStack.EMPTY;
-      return stack;
-    }
-
-    // if the stack is too big, give up
-    if (stack.getCount() > amount) {
+    World world = te.getWorld();
+    inventory.setItemHandlerContext(sideEffects, true);
+    boolean matches = recipe != null && world != null && recipe.matches(inventory, world);
+    inventory.clearContext();
+    if (!matches) {
+      clearCache();
+      Inspirations.log.error("Attempted to extract items from a recipe that does not match the cauldron.");
       return ItemStack.EMPTY;
     }
 
-    // validate the cached recipe as we are about to extract
-    if (needsValidation) {
-      World world = te.getWorld();
-      if (world == null || !currentRecipe.matches(inventory, world)) {
-        clearCache();
-        Inspirations.log.error("Attempted to extract items from a recipe that does not match the cauldron.");
-        return ItemStack.EMPTY;
-      }
-    }
-
-    // run the recipe if possible
+    // run the recipe
     return handleRecipe(recipe, true);
   }
 
@@ -161,11 +146,39 @@ public class CauldronItemHandler implements IItemHandler {
 
   @Override
   public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
-    return stack;
+    World world = te.getWorld();
+    if (stack.isEmpty() || world == null || world.isRemote) {
+      return stack;
+    }
+
+    // run the recipe silently on a copy, as many times as the stack and cauldron allow. Sounds only play once the result is accepted
+    hasSideEffects = false;
+    inventory.setItemContext(stack.copy(), null, sideEffects);
+    inventory.setSilent(true);
+    ICauldronRecipe recipe = te.findRecipe();
+    if (recipe == null) {
+      inventory.clearContext();
+      return stack;
+    }
+    recipe.handleRecipe(inventory, recipe.getMaxCrafts(inventory));
+
+    // the cauldron cannot hold items, so only accept recipes that consume the input without producing items
+    ItemStack remainder = inventory.getStack();
+    if (hasSideEffects || remainder.getCount() >= stack.getCount() || (!remainder.isEmpty() && !ItemHandlerHelper.canItemStacksStack(remainder, stack))) {
+      inventory.clearContext();
+      return stack;
+    }
+    if (!simulate) {
+      inventory.playSilencedSounds();
+      te.updateStateAndBlock(inventory.getContents(), inventory.getLevel());
+    }
+    inventory.clearContext();
+    return remainder;
   }
 
   @Override
   public boolean isItemValid(int slot, ItemStack stack) {
-    return false;
+    // only valid if a recipe would consume at least part of the stack
+    return insertItem(slot, stack, true).getCount() < stack.getCount();
   }
 }
@@ -0,0 +1,237 @@
+package knightminer.inspirations.utility.tileentity;
+
+import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import knightminer.inspirations.Inspirations;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.ItemEntity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.entity.EntityEvent.EnteringChunk;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * Keeps the item entities in each chunk a collector is targeting, updated from entity join, leave, and chunk change events.
+ * Collectors then only check items in the chunks around their target instead of querying the world on every pulse.
+ */
+@EventBusSubscriber(modid = Inspirations.modID, bus = Bus.FORGE)
+public class CollectorItemTracker {
+  /** Tracked chunks for each world */
+  private static final Map<ServerWorld,Tracker> TRACKERS = new HashMap<>();
+  /** Distance outside the target block an item may be centered while still touching it, covers the item half width */
+  private static final int ITEM_MARGIN = 1;
+
+  private CollectorItemTracker() {}
+
+  /**
+   * Starts tracking items in all chunks containing items that may touch the target
+   * @param world   World instance
+   * @param target  Position the collector is collecting from
+   */
+  static void watch(World world, BlockPos target) {
+    if (world instanceof ServerWorld) {
+      forEachChunk(target, TRACKERS.computeIfAbsent((ServerWorld)world, w -> new Tracker())::watch);
+    }
+  }
+
+  /**
+   * Stops tracking items for a collector, once no collectors target a chunk its items are dropped
+   * @param world   World instance
+   * @param target  Position the collector was collecting from
+   */
+  static void unwatch(World world, BlockPos target) {
+    Tracker tracker = TRACKERS.get(world);
+    if (tracker != null) {
+      forEachChunk(target, tracker::unwatch);
+    }
+  }
+
+  /**
+   * Gets all tracked items in the chunks around the target. Items still need to be checked against the target bounds
+   * @param world   World instance
+   * @param target  Position the collector is collecting from, must be watched
+   * @return  Items near the target
+   */
+  static Collection<ItemEntity> getItems(World world, BlockPos target) {
+    Tracker tracker = TRACKERS.get(world);
+    if (tracker == null) {
+      return Collections.emptySet();
+    }
+    // most targets are away from chunk borders, so skip merging
+    if ((target.getX() - ITEM_MARGIN) >> 4 == (target.getX() + ITEM_MARGIN) >> 4 && (target.getZ() - ITEM_MARGIN) >> 4 == (target.getZ() + ITEM_MARGIN) >> 4) {
+      return tracker.getItems(world, ChunkPos.asLong(target.getX() >> 4, target.getZ() >> 4));
+    }
+    List<ItemEntity> items = new ArrayList<>();
+    forEachChunk(target, key -> items.addAll(tracker.getItems(world, key)));
+    return items;
+  }
+
+  /**
+   * Runs the consumer for each chunk that may contain an item touching the target, as items are tracked by the chunk containing their center
+   * @param target    Target position
+   * @param consumer  Consumer for chunk keys
+   */
+  private static void forEachChunk(BlockPos target, LongConsumer consumer) {
+    int maxX = (target.getX() + ITEM_MARGIN) >> 4;
+    int maxZ = (target.getZ() + ITEM_MARGIN) >> 4;
+    for (int x = (target.getX() - ITEM_MARGIN) >> 4; x <= maxX; x++) {
+      for (int z = (target.getZ() - ITEM_MARGIN) >> 4; z <= maxZ; z++) {
+        consumer.accept(ChunkPos.asLong(x, z));
+      }
+    }
+  }
+
+  /**
+   * Gets the chunk key for an entity based on its position
+   * @param entity  Entity
+   * @return  Chunk key
+   */
+  private static long getChunkKey(Entity entity) {
+    return ChunkPos.asLong(MathHelper.floor(entity.getPosX()) >> 4, MathHelper.floor(entity.getPosZ()) >> 4);
+  }
+
+
+  /* Events */
+
+  /** Tracks newly added items, after other mods had a chance to cancel the spawn */
+  @SubscribeEvent(priority = EventPriority.LOWEST)
+  public static void entityJoin(EntityJoinWorldEvent event) {
+    Entity entity = event.getEntity();
+    if (entity instanceof ItemEntity && event.getWorld() instanceof ServerWorld) {
+      Tracker tracker = TRACKERS.get(event.getWorld());
+      if (tracker != null) {
+        tracker.update((ItemEntity)entity, getChunkKey(entity));
+      }
+    }
+  }
+
+  /** Drops removed items */
+  @SubscribeEvent
+  public static void entityLeave(EntityLeaveWorldEvent event) {
+    Entity entity = event.getEntity();
+    if (entity instanceof ItemEntity && event.getWorld() instanceof ServerWorld) {
+      Tracker tracker = TRACKERS.get(event.getWorld());
+      if (tracker != null) {
+        tracker.remove((ItemEntity)entity);
+      }
+    }
+  }
+
+  /** Moves items between chunks */
+  @SubscribeEvent
+  public static void enteringChunk(EnteringChunk event) {
+    Entity entity = event.getEntity();
+    if (entity instanceof ItemEntity && entity.world instanceof ServerWorld) {
+      Tracker tracker = TRACKERS.get(entity.world);
+      if (tracker != null) {
+        tracker.update((ItemEntity)entity, ChunkPos.asLong(event.getNewChunkX(), event.getNewChunkZ()));
+      }
+    }
+  }
+
+  /** Drops trackers for unloaded worlds */
+  @SubscribeEvent
+  public static void worldUnload(WorldEvent.Unload event) {
+    if (event.getWorld() instanceof ServerWorld) {
+      TRACKERS.remove(event.getWorld());
+    }
+  }
+
+  /** Items in a single watched chunk */
+  private static class TrackedChunk {
+    private final Set<ItemEntity> items = Sets.newIdentityHashSet();
+    /** Number of collectors targeting this chunk */
+    private int watchers = 0;
+    /** If false, the chunk needs a world query to find items that existed before tracking started */
+    private boolean seeded = false;
+  }
+
+  /** Watched chunks for a single world */
+  private static class Tracker {
+    private final Long2ObjectMap<TrackedChunk> chunks = new Long2ObjectOpenHashMap<>();
+    /** Chunk each tracked item is currently in */
+    private final Map<ItemEntity,TrackedChunk> entities = new IdentityHashMap<>();
+
+    private void watch(long key) {
+      TrackedChunk chunk = chunks.get(key);
+      if (chunk == null) {
+        chunk = new TrackedChunk();
+        chunks.put(key, chunk);
+      }
+      chunk.watchers++;
+    }
+
+    private void unwatch(long key) {
+      TrackedChunk chunk = chunks.get(key);
+      if (chunk != null && --chunk.watchers <= 0) {
+        chunks.remove(key);
+        for (ItemEntity entity : chunk.items) {
+          entities.remove(entity);
+        }
+      }
+    }
+
+    private Collection<ItemEntity> getItems(World world, long key) {
+      TrackedChunk chunk = chunks.get(key);
+      if (chunk == null) {
+        return Collections.emptySet();
+      }
+      if (!chunk.seeded) {
+        chunk.seeded = true;
+        ChunkPos pos = new ChunkPos(key);
+        int x = pos.getXStart(), z = pos.getZStart();
+        // the query also returns items overlapping from neighboring chunks, so place items by their own position
+        for (ItemEntity entity : world.getEntitiesWithinAABB(ItemEntity.class, new AxisAlignedBB(x, 0, z, x + 16, world.getHeight(), z + 16))) {
+          update(entity, getChunkKey(entity));
+        }
+      }
+      return chunk.items;
+    }
+
+    /**
+     * Moves an item into the given chunk, dropping it if the chunk is not watched
+     * @param entity  Item entity
+     * @param key     Chunk key
+     */
+    private void update(ItemEntity entity, long key) {
+      TrackedChunk chunk = chunks.get(key);
+      TrackedChunk old = chunk == null ? entities.remove(entity) : entities.put(entity, chunk);
+      if (old != chunk) {
+        if (old != null) {
+          old.items.remove(entity);
+        }
+        if (chunk != null) {
+          chunk.items.add(entity);
+        }
+      }
+    }
+
+    private void remove(ItemEntity entity) {
+      TrackedChunk old = entities.remove(entity);
+      if (old != null) {
+        old.items.remove(entity);
+      }
+    }
+  }
+}
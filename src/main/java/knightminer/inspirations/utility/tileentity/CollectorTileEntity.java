@@ -1,5 +1,6 @@
 package knightminer.inspirations.utility.tileentity;
 
+import knightminer.inspirations.common.Config;
 import knightminer.inspirations.utility.InspirationsUtility;
 import knightminer.inspirations.utility.inventory.CollectorContainer;
 import net.minecraft.entity.item.ItemEntity;
@@ -24,9 +25,12 @@ import slimeknights.mantle.tileentity.InventoryTileEntity;
 import slimeknights.mantle.util.WeakConsumerWrapper;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 
 public class CollectorTileEntity extends InventoryTileEntity {
   private static final ITextComponent TITLE = new TranslationTextComponent("gui.inspirations.collector");
+  /** Minimum ticks between collector sounds */
+  private static final int SOUND_INTERVAL = 4;
 
   /** Cache of the current TE we are facing */
   @Nullable
@@ -34,6 +38,13 @@ public class CollectorTileEntity extends InventoryTileEntity {
   /** Cache of the bounds to check for items */
   @Nullable
   private AxisAlignedBB itemBounds;
+  /** Position registered with the {@link CollectorItemTracker}, null if not yet registered */
+  @Nullable
+  private BlockPos trackedTarget;
+  /** Slot in the facing inventory that last had items, extraction starts searching here */
+  private int slotHint = 0;
+  /** Game time of the last sound played, used to limit sounds from fast clocks */
+  private long lastSound = Long.MIN_VALUE;
 
   /** Lambda to call on every item transfer. Final variable to reduce memory usage every tick */
   private final NonNullConsumer<IItemHandler> extractItem = this::extractItem;
@@ -63,7 +74,12 @@ public class CollectorTileEntity extends InventoryTileEntity {
     } else {
       // collect items from world
       boolean collected = false;
-      for (ItemEntity entity : world.getEntitiesWithinAABB(ItemEntity.class, getItemBounds())) {
+      AxisAlignedBB bounds = getItemBounds();
+      for (ItemEntity entity : getTrackedItems()) {
+        // skip items from a cancelled spawn or already collected this tick
+        if (!entity.isAlive() || !entity.isAddedToWorld() || !bounds.intersects(entity.getBoundingBox())) {
+          continue;
+        }
         ItemStack insert = entity.getItem();
         // no need to simulate, if successful we have to modify the stack regardless
         ItemStack remainder = ItemHandlerHelper.insertItemStacked(itemHandler, insert, false);
@@ -79,7 +95,11 @@ public class CollectorTileEntity extends InventoryTileEntity {
         }
       }
       // play sound. Plays dispenser dispense if success and dispenser fail if not
-      world.playEvent(collected ? WorldEvents.DISPENSER_DISPENSE_SOUND : WorldEvents.DISPENSER_FAIL_SOUND, pos, 0);
+      long time = world.getGameTime();
+      if (time - lastSound >= SOUND_INTERVAL) {
+        lastSound = time;
+        world.playEvent(collected ? WorldEvents.DISPENSER_DISPENSE_SOUND : WorldEvents.DISPENSER_FAIL_SOUND, pos, 0);
+      }
     }
   }
 
@@ -123,18 +143,58 @@ public class CollectorTileEntity extends InventoryTileEntity {
   }
 
   /**
-   * Logic to transfer a single item
+   * Gets all tracked items near the target, registering with the tracker if needed
+   * @return  Items near the target
+   */
+  private Collection<ItemEntity> getTrackedItems() {
+    assert world != null;
+    if (world.isRemote) {
+      return world.getEntitiesWithinAABB(ItemEntity.class, getItemBounds());
+    }
+    if (trackedTarget == null) {
+      trackedTarget = pos.offset(getBlockState().get(BlockStateProperties.FACING));
+      CollectorItemTracker.watch(world, trackedTarget);
+    }
+    return CollectorItemTracker.getItems(world, trackedTarget);
+  }
+
+  /**
+   * Stops tracking items for the current target
+   */
+  private void clearTrackedItems() {
+    if (trackedTarget != null) {
+      if (world != null) {
+        CollectorItemTracker.unwatch(world, trackedTarget);
+      }
+      trackedTarget = null;
+    }
+  }
+
+  /**
+   * Logic to transfer items, extracting up to the configured amount across slots
    * @param neighbor  Neighbor to extract items from
    */
   private void extractItem(IItemHandler neighbor) {
-    // basically, we iterate every slot, trying to remove a single item
-    for (int i = 0; i < neighbor.getSlots(); i++) {
-      ItemStack simulated = neighbor.extractItem(i, 1, true);
+    // basically, we iterate every slot starting from the last successful one, trying to remove items
+    int slots = neighbor.getSlots();
+    if (slotHint >= slots) {
+      slotHint = 0;
+    }
+    int remaining = Config.collectorExtractAmount.get();
+    for (int offset = 0; offset < slots; offset++) {
+      int i = (slotHint + offset) % slots;
+      ItemStack simulated = neighbor.extractItem(i, remaining, true);
       // as soon as we find one we can extract, we try inserting it
       if (!simulated.isEmpty()) {
-        // if it successfully inserts, extract it from the original inventory
-        if (ItemHandlerHelper.insertItemStacked(itemHandler, simulated, false).isEmpty()) {
-          neighbor.extractItem(i, 1, false);
+        // extract whatever was inserted from the original inventory
+        int inserted = simulated.getCount() - ItemHandlerHelper.insertItemStacked(itemHandler, simulated, false).getCount();
+        if (inserted > 0) {
+          neighbor.extractItem(i, inserted, false);
+          slotHint = i;
+          remaining -= inserted;
+        }
+        // stop once we have enough
+        if (remaining <= 0) {
           break;
         }
       }
@@ -146,6 +206,7 @@ public class CollectorTileEntity extends InventoryTileEntity {
    */
   public void clearCachedInventories() {
     this.facingHandler = null;
+    this.slotHint = 0;
   }
 
   @Override
@@ -153,6 +214,20 @@ public class CollectorTileEntity extends InventoryTileEntity {
     super.updateContainingBlockInfo();
     // if the block changed and this TE is intact, remove cache. likely we were rotated
     this.clearCachedInventories();
+    this.clearTrackedItems();
+    this.itemBounds = null;
+  }
+
+  @Override
+  public void remove() {
+    super.remove();
+    this.clearTrackedItems();
+  }
+
+  @Override
+  public void onChunkUnloaded() {
+    super.onChunkUnloaded();
+    this.clearTrackedItems();
   }
 
   @Override
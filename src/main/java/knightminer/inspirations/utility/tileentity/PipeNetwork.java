@@ -0,0 +1,158 @@
+package knightminer.inspirations.utility.tileentity;
+
+import com.google.common.collect.Sets;
+import knightminer.inspirations.common.Config;
+import knightminer.inspirations.utility.block.PipeBlock;
+import net.minecraft.block.BlockState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Set of pipes that all drain into the same final pipe, called the head. Transfers for all pipes in the network are run together by {@link PipeNetworkScheduler}
+ */
+public class PipeNetwork {
+  /** Pipes in the network, ordered so each pipe comes before any pipe outputting into it */
+  private final List<PipeTileEntity> pipes;
+  /** If false, the pipes changed and this network should be discovered again */
+  private boolean valid = true;
+  /** Game time of the next scheduled transfer, -1 if not scheduled. Managed by the scheduler */
+  long nextTick = -1;
+
+  private PipeNetwork(List<PipeTileEntity> pipes) {
+    this.pipes = pipes;
+  }
+
+  /**
+   * Gets the pipe this pipe outputs into
+   * @param world  World instance
+   * @param pipe   Pipe to check
+   * @return  Output pipe, or null if not outputting into a loaded pipe
+   */
+  @Nullable
+  private static PipeTileEntity getOutputPipe(World world, PipeTileEntity pipe) {
+    BlockPos pos = pipe.getPos().offset(pipe.getBlockState().get(PipeBlock.FACING));
+    if (world.isBlockLoaded(pos)) {
+      TileEntity te = world.getTileEntity(pos);
+      if (te instanceof PipeTileEntity) {
+        return (PipeTileEntity)te;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Discovers the network containing the given pipe, and updates all pipes in the network to use it
+   * @param world  World instance
+   * @param start  Pipe to start from
+   * @return  Network containing the pipe
+   */
+  static PipeNetwork discover(World world, PipeTileEntity start) {
+    // follow outputs until we reach a pipe not outputting into another pipe, or we loop
+    PipeTileEntity head = start;
+    Set<PipeTileEntity> visited = Sets.newIdentityHashSet();
+    visited.add(start);
+    PipeTileEntity next = getOutputPipe(world, head);
+    while (next != null && visited.add(next)) {
+      head = next;
+      next = getOutputPipe(world, head);
+    }
+
+    // search back from the head, pipe connections mark neighbors that output into the pipe
+    List<PipeTileEntity> pipes = new ArrayList<>();
+    Set<PipeTileEntity> members = Sets.newIdentityHashSet();
+    pipes.add(head);
+    members.add(head);
+    for (int i = 0; i < pipes.size(); i++) {
+      PipeTileEntity pipe = pipes.get(i);
+      BlockState state = pipe.getBlockState();
+      for (Direction side : Direction.values()) {
+        if (state.get(PipeBlock.DIR_ENABLED[side.getIndex()])) {
+          BlockPos pos = pipe.getPos().offset(side);
+          if (world.isBlockLoaded(pos)) {
+            TileEntity te = world.getTileEntity(pos);
+            if (te instanceof PipeTileEntity && members.add((PipeTileEntity)te)) {
+              pipes.add((PipeTileEntity)te);
+            }
+          }
+        }
+      }
+    }
+
+    // update all pipes to the new network, replacing any stale network
+    PipeNetwork network = new PipeNetwork(pipes);
+    for (PipeTileEntity pipe : pipes) {
+      PipeNetwork old = pipe.getNetwork();
+      if (old != null && old != network) {
+        old.invalidate();
+      }
+      pipe.setNetwork(network);
+    }
+    return network;
+  }
+
+  /**
+   * Checks if this network is still valid
+   * @return  False if the network needs to be discovered again
+   */
+  public boolean isValid() {
+    return valid;
+  }
+
+  /** Marks this network as invalid, causing it to be discovered again on next use */
+  public void invalidate() {
+    valid = false;
+  }
+
+  /**
+   * Gets the final pipe in the network, which determines network settings
+   * @return  Network head
+   */
+  public PipeTileEntity getHead() {
+    return pipes.get(0);
+  }
+
+  /**
+   * Gets the number of ticks between transfers for this network
+   * @return  Transfer cooldown
+   */
+  public int getCooldown() {
+    int cooldown = getHead().getTransferCooldown();
+    return cooldown > 0 ? cooldown : Config.pipeCooldown.get();
+  }
+
+  /**
+   * Runs a transfer for each pipe in the network, starting from the head so items move at most one pipe per transfer
+   * @return  True if any pipe still contains items
+   */
+  boolean transfer() {
+    boolean hasItems = false;
+    for (PipeTileEntity pipe : pipes) {
+      if (!pipe.isRemoved() && pipe.transfer()) {
+        hasItems = true;
+      }
+    }
+    return hasItems;
+  }
+
+  /**
+   * Gets all pipes in this network that still contain items, used to reschedule pipes after the network is invalidated
+   * @return  Loaded pipes with items
+   */
+  List<PipeTileEntity> getPipesWithItems() {
+    List<PipeTileEntity> list = new ArrayList<>();
+    for (PipeTileEntity pipe : pipes) {
+      World world = pipe.getWorld();
+      if (!pipe.isRemoved() && !pipe.isEmpty() && world != null && world.isBlockLoaded(pipe.getPos())) {
+        list.add(pipe);
+      }
+    }
+    return list;
+  }
+}
@@ -0,0 +1,134 @@
+package knightminer.inspirations.utility.tileentity;
+
+import knightminer.inspirations.Inspirations;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.WorldTickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
+import net.minecraftforge.fml.common.Mod.EventBusSubscriber.Bus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs pipe transfers for each {@link PipeNetwork} on a timing wheel, so only networks containing items take tick time
+ */
+@EventBusSubscriber(modid = Inspirations.modID, bus = Bus.FORGE)
+public class PipeNetworkScheduler {
+  /** Number of slots in the timing wheel, must be a power of two */
+  private static final int WHEEL_SIZE = 64;
+  /** Timing wheel for each world */
+  private static final Map<ServerWorld,Wheel> WHEELS = new HashMap<>();
+
+  private PipeNetworkScheduler() {}
+
+  /**
+   * Gets the network for the given pipe, discovering it if needed
+   * @param world  World instance
+   * @param pipe   Pipe instance
+   * @return  Pipe network
+   */
+  private static PipeNetwork getNetwork(World world, PipeTileEntity pipe) {
+    PipeNetwork network = pipe.getNetwork();
+    if (network == null || !network.isValid()) {
+      network = PipeNetwork.discover(world, pipe);
+    }
+    return network;
+  }
+
+  /**
+   * Schedules a transfer for the network containing the given pipe after the network cooldown, if not already scheduled
+   * @param pipe  Pipe containing items
+   */
+  public static void schedule(PipeTileEntity pipe) {
+    World world = pipe.getWorld();
+    if (world instanceof ServerWorld && !pipe.isRemoved()) {
+      PipeNetwork network = getNetwork(world, pipe);
+      WHEELS.computeIfAbsent((ServerWorld)world, w -> new Wheel()).schedule(network, world.getGameTime() + network.getCooldown());
+    }
+  }
+
+  /** Runs all transfers due this tick */
+  @SubscribeEvent
+  public static void worldTick(WorldTickEvent event) {
+    if (event.phase == Phase.END && event.world instanceof ServerWorld) {
+      Wheel wheel = WHEELS.get(event.world);
+      if (wheel != null) {
+        wheel.tick(event.world.getGameTime());
+      }
+    }
+  }
+
+  /** Drops networks for unloaded worlds */
+  @SubscribeEvent
+  public static void worldUnload(WorldEvent.Unload event) {
+    if (event.getWorld() instanceof ServerWorld) {
+      WHEELS.remove(event.getWorld());
+    }
+  }
+
+  /** Scheduled networks for a single world */
+  private static class Wheel {
+    /** Networks by scheduled tick modulo the wheel size */
+    @SuppressWarnings("unchecked")
+    private final List<PipeNetwork>[] slots = new List[WHEEL_SIZE];
+    /** Empty list swapped in while a slot runs, so networks scheduled during the run are not lost */
+    private List<PipeNetwork> spare = new ArrayList<>();
+
+    private Wheel() {
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        slots[i] = new ArrayList<>();
+      }
+    }
+
+    /**
+     * Schedules the network if not already scheduled
+     * @param network  Network to schedule
+     * @param tick     Game time to run the network
+     */
+    private void schedule(PipeNetwork network, long tick) {
+      if (network.nextTick < 0) {
+        network.nextTick = tick;
+        slots[(int)(tick & (WHEEL_SIZE - 1))].add(network);
+      }
+    }
+
+    /**
+     * Runs networks scheduled for the given time
+     * @param time  Current game time
+     */
+    private void tick(long time) {
+      int index = (int)(time & (WHEEL_SIZE - 1));
+      List<PipeNetwork> due = slots[index];
+      if (due.isEmpty()) {
+        return;
+      }
+      slots[index] = spare;
+      for (PipeNetwork network : due) {
+        // scheduled for a later turn of the wheel
+        if (network.nextTick > time) {
+          slots[index].add(network);
+          continue;
+        }
+        network.nextTick = -1;
+        if (network.isValid()) {
+          if (network.transfer()) {
+            schedule(network, time + network.getCooldown());
+          }
+        } else {
+          // pipes changed, rediscover networks for any pipes still holding items
+          for (PipeTileEntity pipe : network.getPipesWithItems()) {
+            PipeNetworkScheduler.schedule(pipe);
+          }
+        }
+      }
+      due.clear();
+      spare = due;
+    }
+  }
+}
@@ -11,9 +11,9 @@ import net.minecraft.inventory.container.Container;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.HopperTileEntity;
-import net.minecraft.tileentity.ITickableTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraftforge.common.util.LazyOptional;
@@ -27,11 +27,19 @@ import slimeknights.mantle.util.WeakConsumerWrapper;
 import javax.annotation.Nullable;
 import java.lang.ref.WeakReference;
 
-public class PipeTileEntity extends InventoryTileEntity implements ITickableTileEntity {
+public class PipeTileEntity extends InventoryTileEntity {
   private static final ITextComponent TITLE = new TranslationTextComponent("gui.inspirations.pipe");
 
-  /* Number of ticks before transfer is allowed again */
-  private short cooldown = 0;
+  /** Network containing this pipe, null if not yet discovered */
+  @Nullable
+  private PipeNetwork network;
+  /**
+   * Ticks between transfers for a network ending in this pipe, 0 to use the config value.
+   * Only set from NBT or by other mods, there is intentionally no in game way to change it per pipe
+   */
+  private short transferCooldown = 0;
+  /** Maximum items moved per transfer, 0 to use the config value. Like {@link #transferCooldown}, only set from NBT or by other mods */
+  private byte transferAmount = 0;
 
   /** Cache of the current TE we are facing */
   @Nullable
@@ -53,32 +61,22 @@ public class PipeTileEntity extends InventoryTileEntity implements ITickableTile
     super(InspirationsUtility.tilePipe, TITLE, 1);
   }
 
-  @Override
-  public void tick() {
-    if (world == null || world.isRemote) {
-      return;
+  /**
+   * Transfers an item to the inventory this pipe is facing. Called by the {@link PipeNetwork} on its cooldown
+   * @return  True if the pipe still contains items
+   */
+  boolean transfer() {
+    if (world == null || this.isEmpty()) {
+      return false;
     }
 
     // do not function if facing up when disallowed
     Direction facing = this.getBlockState().get(PipeBlock.FACING);
-    if (!Config.pipeUpwards.get() && facing == Direction.UP) {
-      return;
+    if (Config.pipeUpwards.get() || facing != Direction.UP) {
+      // transfer items if we have a handler
+      getHandler(facing).ifPresent(transferItem);
     }
-
-    // process cooldown
-    cooldown--;
-    if (cooldown > 0) {
-      return;
-    }
-    cooldown = 0;
-
-    // no items, skip
-    if (this.isEmpty()) {
-      return;
-    }
-
-    // transfer items if we have a handler
-    getHandler(facing).ifPresent(transferItem);
+    return !this.isEmpty();
   }
 
   /**
@@ -113,7 +111,7 @@ public class PipeTileEntity extends InventoryTileEntity implements ITickableTile
   }
 
   /**
-   * Logic to transfer a single item
+   * Logic to transfer a batch of items, moving as many as the neighbor accepts up to the transfer amount
    * @param neighbor  Neighbor to transfer items into
    */
   private void transferItem(IItemHandler neighbor) {
@@ -122,24 +120,23 @@ public class PipeTileEntity extends InventoryTileEntity implements ITickableTile
       return;
     }
 
-    ItemStack copy = stack.copy();
-    copy.setCount(1);
-    // if we successfully place it in, shrink it here
-    if (ItemHandlerHelper.insertItemStacked(neighbor, copy, false).isEmpty()) {
+    // insert the whole batch at once, the remainder tells us how much was accepted
+    ItemStack batch = ItemHandlerHelper.copyStackWithSize(stack, Math.min(stack.getCount(), getTransferAmount()));
+    int moved = batch.getCount() - ItemHandlerHelper.insertItemStacked(neighbor, batch, false).getCount();
+    if (moved > 0) {
       // set cooldown on the hopper
       if (hopper != null) {
         HopperTileEntity hop = this.hopper.get();
         if (hop != null) {
-          hop.setTransferCooldown(8);
+          hop.setTransferCooldown(network != null ? network.getCooldown() : Config.pipeCooldown.get());
         }
       }
 
       // remove the stack if empty
-      stack.shrink(1);
+      stack.shrink(moved);
       if (stack.isEmpty()) {
         this.setInventorySlotContents(0, ItemStack.EMPTY);
       }
-      cooldown = 8;
 
       this.markDirty();
     }
@@ -158,12 +155,112 @@ public class PipeTileEntity extends InventoryTileEntity implements ITickableTile
     super.updateContainingBlockInfo();
     // if the block changed and this TE is intact, remove cache. likely we were rotated
     this.clearCachedInventories();
+    this.invalidateNetworks();
   }
 
   @Override
   public void setInventorySlotContents(int slot, ItemStack itemstack) {
     super.setInventorySlotContents(slot, itemstack);
-    cooldown = 7; // set the cooldown to prevent instant retransfer
+    // wait for the network cooldown to prevent instant retransfer
+    if (!itemstack.isEmpty()) {
+      PipeNetworkScheduler.schedule(this);
+    }
+  }
+
+
+  /* Network */
+
+  /**
+   * Gets the network containing this pipe
+   * @return  Pipe network, null if not yet discovered
+   */
+  @Nullable
+  public PipeNetwork getNetwork() {
+    return network;
+  }
+
+  /**
+   * Sets the network containing this pipe
+   * @param network  New network
+   */
+  void setNetwork(PipeNetwork network) {
+    this.network = network;
+  }
+
+  /**
+   * Gets the transfer cooldown for networks ending in this pipe
+   * @return  Transfer cooldown, 0 if using the config value
+   */
+  public int getTransferCooldown() {
+    return transferCooldown;
+  }
+
+  /**
+   * Sets the transfer cooldown for networks ending in this pipe. Not used by Inspirations, this is the API for other mods to override {@link Config#pipeCooldown}
+   * @param transferCooldown  Transfer cooldown, 0 to use the config value
+   */
+  public void setTransferCooldown(int transferCooldown) {
+    this.transferCooldown = (short)Math.max(0, Math.min(transferCooldown, Short.MAX_VALUE));
+    this.markDirty();
+  }
+
+  /**
+   * Gets the maximum number of items this pipe moves in a single transfer
+   * @return  Transfer amount
+   */
+  public int getTransferAmount() {
+    return transferAmount > 0 ? transferAmount : Config.pipeTransferAmount.get();
+  }
+
+  /**
+   * Sets the maximum number of items this pipe moves in a single transfer. Not used by Inspirations, this is the API for other mods to override {@link Config#pipeTransferAmount}
+   * @param transferAmount  Transfer amount, 0 to use the config value
+   */
+  public void setTransferAmount(int transferAmount) {
+    this.transferAmount = (byte)Math.max(0, Math.min(transferAmount, 64));
+    this.markDirty();
+  }
+
+  /**
+   * Invalidates the network of this pipe and all neighboring pipes, as connections may have changed
+   */
+  private void invalidateNetworks() {
+    if (network != null) {
+      network.invalidate();
+    }
+    if (world != null && !world.isRemote) {
+      for (Direction side : Direction.values()) {
+        BlockPos neighbor = pos.offset(side);
+        if (world.isBlockLoaded(neighbor)) {
+          TileEntity te = world.getTileEntity(neighbor);
+          if (te instanceof PipeTileEntity && ((PipeTileEntity)te).network != null) {
+            ((PipeTileEntity)te).network.invalidate();
+          }
+        }
+      }
+    }
+  }
+
+  @Override
+  public void onLoad() {
+    super.onLoad();
+    // new pipes may join or merge networks
+    invalidateNetworks();
+    if (!this.isEmpty()) {
+      PipeNetworkScheduler.schedule(this);
+    }
+  }
+
+  @Override
+  public void remove() {
+    super.remove();
+    invalidateNetworks();
+  }
+
+  @Override
+  public void onChunkUnloaded() {
+    super.onChunkUnloaded();
+    invalidateNetworks();
   }
 
 
@@ -177,18 +274,25 @@ public class PipeTileEntity extends InventoryTileEntity implements ITickableTile
 
   /* NBT */
 
-  private static final String TAG_COOLDOWN = "cooldown";
+  private static final String TAG_TRANSFER_COOLDOWN = "transferCooldown";
+  private static final String TAG_TRANSFER_AMOUNT = "transferAmount";
 
   @Override
   public void read(BlockState state, CompoundNBT tags) {
     super.read(state, tags);
-    this.cooldown = tags.getShort(TAG_COOLDOWN);
+    this.transferCooldown = tags.getShort(TAG_TRANSFER_COOLDOWN);
+    this.transferAmount = tags.getByte(TAG_TRANSFER_AMOUNT);
   }
 
   @Override
   public CompoundNBT write(CompoundNBT tags) {
     super.write(tags);
-    tags.putShort(TAG_COOLDOWN, this.cooldown);
+    if (this.transferCooldown > 0) {
+      tags.putShort(TAG_TRANSFER_COOLDOWN, this.transferCooldown);
+    }
+    if (this.transferAmount > 0) {
+      tags.putByte(TAG_TRANSFER_AMOUNT, this.transferAmount);
+    }
 
     return tags;
   }